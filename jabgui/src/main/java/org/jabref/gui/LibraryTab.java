@@ -60,6 +60,7 @@ import org.jabref.gui.util.OptionalObjectProperty;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.citationstyle.CitationStyleCache;
+import org.jabref.logic.exporter.IncrementalSaveState;
 import org.jabref.logic.importer.FetcherClientException;
 import org.jabref.logic.importer.FetcherException;
 import org.jabref.logic.importer.FetcherServerException;
@@ -116,6 +117,7 @@ public class LibraryTab extends Tab {
     private final BooleanProperty nonUndoableChangeProperty = new SimpleBooleanProperty(false);
 
     private BibDatabaseContext bibDatabaseContext;
+    private IncrementalSaveState incrementalSaveState;
     private MainTableDataModel tableModel;
     private FileAnnotationCache annotationCache;
     private MainTable mainTable;
@@ -171,6 +173,7 @@ public class LibraryTab extends Tab {
                        boolean isDummyContext) {
         this.tabContainer = Objects.requireNonNull(tabContainer);
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
+        this.incrementalSaveState = new IncrementalSaveState(bibDatabaseContext.getDatabase());
         this.undoManager = undoManager;
         this.dialogService = dialogService;
         this.preferences = Objects.requireNonNull(preferences);
@@ -329,6 +332,7 @@ public class LibraryTab extends Tab {
         foundExistingBibDatabase.ifPresent(databaseContext -> stateManager.getOpenDatabases().remove(databaseContext));
 
         this.bibDatabaseContext = Objects.requireNonNull(bibDatabaseContext);
+        this.incrementalSaveState = new IncrementalSaveState(bibDatabaseContext.getDatabase());
 
         stateManager.getOpenDatabases().add(bibDatabaseContext);
 
@@ -713,6 +717,13 @@ public class LibraryTab extends Tab {
         return this.bibDatabaseContext;
     }
 
+    /**
+     * Returns the state of the last save of the library, which allows to save only the entries changed since then
+     */
+    public IncrementalSaveState getIncrementalSaveState() {
+        return this.incrementalSaveState;
+    }
+
     public boolean isSaving() {
         return saving;
     }
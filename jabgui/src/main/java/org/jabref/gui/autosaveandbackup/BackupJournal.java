@@ -0,0 +1,197 @@
+package org.jabref.gui.autosaveandbackup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+import org.jabref.logic.exporter.AtomicFileOutputStream;
+import org.jabref.logic.util.io.FileUtil;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The journal of a backup: an append-only log of the entries changed since the backup (the checkpoint) was written.
+ * <p>
+ * Each record sets the text of one entry. An entry of the checkpoint is identified by the range of its bytes in the checkpoint,
+ * an entry added afterwards by an empty range at the position where it is inserted. The text of a removed entry is empty.
+ * Applying the journal replaces each range by the last text recorded for it. Added entries are inserted in the order of their first record.
+ * <p>
+ * The journal starts with a line identifying the content of the checkpoint it was written for:
+ * <pre>
+ * checkpoint &lt;number of bytes&gt; &lt;CRC-32C of the bytes&gt;
+ * </pre>
+ * If the checkpoint does not match, the journal is discarded. This happens if JabRef was terminated after the journal was applied
+ * to the checkpoint, but before the journal was deleted; applying it again would corrupt the checkpoint.
+ * <p>
+ * A record consists of a header line followed by the text in the encoding of the checkpoint:
+ * <pre>
+ * entry &lt;number of the entry&gt; &lt;start&gt; &lt;end&gt; &lt;number of bytes of the text&gt;
+ * </pre>
+ * A record which was not written completely (e.g., because JabRef was terminated while writing it) is ignored.
+ */
+class BackupJournal {
+
+    /**
+     * The place of an entry in the checkpoint
+     *
+     * @param number the number of the entry, unique for all entries of a checkpoint
+     */
+    record Slot(int number, long start, long end) {
+    }
+
+    record EntryText(Slot slot, byte[] text) {
+    }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BackupJournal.class);
+
+    private static final String JOURNAL_EXTENSION = ".journal";
+    private static final String CHECKPOINT_TYPE = "checkpoint";
+    private static final String RECORD_TYPE = "entry";
+
+    private BackupJournal() {
+    }
+
+    static Path getJournalPath(Path checkpoint) {
+        return FileUtil.addExtension(checkpoint, JOURNAL_EXTENSION);
+    }
+
+    /**
+     * Appends the given texts of entries to the journal of the given checkpoint
+     */
+    static void append(Path checkpoint, List<EntryText> texts) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        for (EntryText text : texts) {
+            Slot slot = text.slot();
+            String header = "%s %d %d %d %d\n".formatted(RECORD_TYPE, slot.number(), slot.start(), slot.end(), text.text().length);
+            records.write(header.getBytes(StandardCharsets.US_ASCII));
+            records.write(text.text());
+        }
+
+        try (FileChannel journal = FileChannel.open(getJournalPath(checkpoint), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            if (journal.size() == 0) {
+                journal.write(ByteBuffer.wrap(getCheckpointLine(checkpoint).getBytes(StandardCharsets.US_ASCII)));
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+    }
+
+    /**
+     * Applies the journal of the given checkpoint to the checkpoint and deletes the journal afterwards.
+     * The time of the last modification of the checkpoint is set to the one of the journal, because this is the time of the last backup.
+     */
+    static void applyToCheckpoint(Path checkpoint) throws IOException {
+        Path journal = getJournalPath(checkpoint);
+        if (Files.notExists(journal)) {
+            return;
+        }
+        FileTime lastBackupTime = Files.getLastModifiedTime(journal);
+        byte[] records = Files.readAllBytes(journal);
+        byte[] checkpointLine = getCheckpointLine(checkpoint).getBytes(StandardCharsets.US_ASCII);
+        if (!Arrays.equals(checkpointLine, 0, checkpointLine.length, records, 0, Math.min(checkpointLine.length, records.length))) {
+            // E.g., the journal was applied already, but not deleted
+            LOGGER.info("Discarding backup journal {}, because it was written for another state of the backup", journal);
+            Files.delete(journal);
+            return;
+        }
+        List<EntryText> texts = readLastTexts(journal, records, checkpointLine.length);
+
+        AtomicFileOutputStream outputStream = new AtomicFileOutputStream(checkpoint);
+        try (FileChannel source = FileChannel.open(checkpoint, StandardOpenOption.READ)) {
+            long position = 0;
+            for (EntryText text : texts) {
+                if ((text.slot().start() < position) || (text.slot().end() > source.size())) {
+                    throw new IOException("Invalid range %d to %d in backup journal %s".formatted(text.slot().start(), text.slot().end(), journal));
+                }
+                outputStream.transferFrom(source, position, text.slot().start() - position);
+                outputStream.write(text.text());
+                position = text.slot().end();
+            }
+            outputStream.transferFrom(source, position, source.size() - position);
+        } catch (IOException | RuntimeException e) {
+            outputStream.abort();
+            throw e;
+        }
+        // Replaces the checkpoint, thus the checkpoint has to be closed before
+        outputStream.close();
+
+        Files.setLastModifiedTime(checkpoint, lastBackupTime);
+        Files.delete(journal);
+    }
+
+    /**
+     * @return the first line of the journal of the given checkpoint, including the line break
+     */
+    private static String getCheckpointLine(Path checkpoint) throws IOException {
+        CRC32C checksum = new CRC32C();
+        long size;
+        try (InputStream inputStream = new CheckedInputStream(Files.newInputStream(checkpoint), checksum)) {
+            size = inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+        return "%s %d %x\n".formatted(CHECKPOINT_TYPE, size, checksum.getValue());
+    }
+
+    /**
+     * @return the last text of each entry, ordered by the position in the checkpoint
+     */
+    private static List<EntryText> readLastTexts(Path journal, byte[] records, int start) throws IOException {
+        // Keeps the order of the first record of each entry
+        Map<Integer, EntryText> textByNumber = new LinkedHashMap<>();
+        int position = start;
+        while (position < records.length) {
+            int headerEnd = position;
+            while ((headerEnd < records.length) && (records[headerEnd] != '\n')) {
+                headerEnd++;
+            }
+            if (headerEnd == records.length) {
+                // Incomplete record
+                break;
+            }
+
+            String[] header = new String(records, position, headerEnd - position, StandardCharsets.US_ASCII).split(" ");
+            if ((header.length != 5) || !RECORD_TYPE.equals(header[0])) {
+                throw new IOException("Invalid record in backup journal " + journal);
+            }
+            Slot slot;
+            int length;
+            try {
+                slot = new Slot(Integer.parseInt(header[1]), Long.parseLong(header[2]), Long.parseLong(header[3]));
+                length = Integer.parseInt(header[4]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Invalid record in backup journal " + journal, e);
+            }
+
+            int textStart = headerEnd + 1;
+            if (textStart + length > records.length) {
+                // Incomplete record
+                break;
+            }
+            textByNumber.put(slot.number(), new EntryText(slot, Arrays.copyOfRange(records, textStart, textStart + length)));
+            position = textStart + length;
+        }
+
+        // Stable, thus added entries stay in the order of their first record
+        return textByNumber.values().stream()
+                           .sorted(Comparator.comparingLong(text -> text.slot().start()))
+                           .toList();
+    }
+}
@@ -1,15 +1,19 @@
 package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
-import java.io.Writer;
+import java.io.StringWriter;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -18,16 +22,21 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javafx.scene.control.TableColumn;
 
 import org.jabref.gui.LibraryTab;
 import org.jabref.gui.maintable.BibEntryTableViewModel;
 import org.jabref.gui.maintable.columns.MainTableColumn;
+import org.jabref.logic.bibtex.BibEntryWriter;
+import org.jabref.logic.bibtex.FieldWriter;
 import org.jabref.logic.bibtex.InvalidFieldValueException;
 import org.jabref.logic.exporter.AtomicFileWriter;
+import org.jabref.logic.exporter.BibDatabaseWriter;
 import org.jabref.logic.exporter.BibWriter;
 import org.jabref.logic.exporter.BibtexDatabaseWriter;
+import org.jabref.logic.exporter.IncrementalSaveState;
 import org.jabref.logic.exporter.SelfContainedSaveConfiguration;
 import org.jabref.logic.preferences.CliPreferences;
 import org.jabref.logic.util.BackupFileType;
@@ -39,10 +48,12 @@ import org.jabref.model.database.event.BibDatabaseContextChangedEvent;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesEvent;
 import org.jabref.model.metadata.SaveOrder;
 import org.jabref.model.metadata.SelfContainedSaveOrder;
 
 import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,6 +62,10 @@ import org.slf4j.LoggerFactory;
  * An intelligent {@link ExecutorService} with a {@link BlockingQueue} prevents a high load while making backups and
  * rejects all redundant backup tasks. This class does not manage the .bak file which is created when opening a
  * database.
+ * <p>
+ * Only some backups write the complete database (a "checkpoint"). If only entries changed since the last backup,
+ * the changed entries are appended to the {@link BackupJournal} of the checkpoint instead. The journal is applied to the
+ * checkpoint before the backup is compared with or restored to the original file.
  */
 public class BackupManager {
 
@@ -58,8 +73,13 @@ public class BackupManager {
 
     private static final int MAXIMUM_BACKUP_FILE_COUNT = 10;
 
+    private static final String BACKUP_FILE_EXTENSION = "." + BackupFileType.BACKUP.getExtensions().getFirst();
+
     private static final int DELAY_BETWEEN_BACKUP_ATTEMPTS_IN_SECONDS = 19;
 
+    // Limits the time needed to apply the journal to the checkpoint
+    private static final int MAXIMUM_JOURNAL_BACKUP_COUNT = 30;
+
     private static final Set<BackupManager> RUNNING_INSTANCES = new HashSet<>();
 
     private final BibDatabaseContext bibDatabaseContext;
@@ -74,6 +94,32 @@ public class BackupManager {
     private final Queue<Path> backupFilesQueue = new LinkedBlockingQueue<>();
     private boolean needsBackup = false;
 
+    // The entries changed since the last backup. Identity, because BibEntry#equals compares the content
+    private final Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+    // True if anything besides the entries changed since the last backup, e.g., the metadata
+    private boolean needsCheckpoint = true;
+
+    // Guards the state of the checkpoint, because the backup on shutdown might run in parallel to a scheduled one
+    private final Object backupLock = new Object();
+    private @Nullable Path checkpoint;
+    private @Nullable Header checkpointHeader;
+    private Map<BibEntry, BackupJournal.Slot> slotByEntry = new IdentityHashMap<>();
+    private int checkpointEntryCount;
+    private long entriesEnd;
+    private int backupsSinceCheckpoint;
+
+    /**
+     * Everything written in front of the entries which changes without posting an event
+     */
+    private record Header(String newLineSeparator, Optional<String> preamble, Map<String, String> strings) {
+        static Header of(BibDatabase database) {
+            return new Header(
+                    database.getNewLineSeparator(),
+                    database.getPreamble(),
+                    database.getStringValues().stream().collect(Collectors.toMap(BibtexString::getName, BibtexString::getContent)));
+        }
+    }
+
     BackupManager(LibraryTab libraryTab, BibDatabaseContext bibDatabaseContext, BibEntryTypesManager entryTypesManager, CliPreferences preferences) {
         this.bibDatabaseContext = bibDatabaseContext;
         this.entryTypesManager = entryTypesManager;
@@ -159,6 +205,13 @@ public class BackupManager {
             return false;
         }
         return getLatestBackupPath(originalPath, backupDir).map(latestBackupPath -> {
+            try {
+                BackupJournal.applyToCheckpoint(latestBackupPath);
+            } catch (IOException e) {
+                LOGGER.error("Could not apply the journal of backup file {}", latestBackupPath, e);
+                // User has to investigate in this case
+                return true;
+            }
             FileTime latestBackupFileLastModifiedTime;
             try {
                 latestBackupFileLastModifiedTime = Files.getLastModifiedTime(latestBackupPath);
@@ -206,6 +259,7 @@ public class BackupManager {
             return;
         }
         try {
+            BackupJournal.applyToCheckpoint(backupPath.get());
             Files.copy(backupPath.get(), originalPath, StandardCopyOption.REPLACE_EXISTING);
         } catch (IOException e) {
             LOGGER.error("Error while restoring the backup file.", e);
@@ -221,18 +275,62 @@ public class BackupManager {
      *
      * <em>SIDE EFFECT: Deletes oldest backup file</em>
      *
-     * @param backupPath the full path to the file where the library should be backed up to
+     * @param backupPath the full path to the file where the library should be backed up to, if a checkpoint is written
      */
     void performBackup(Path backupPath) {
-        if (!needsBackup) {
-            return;
+        synchronized (backupLock) {
+            Set<BibEntry> entriesToBackup = Collections.newSetFromMap(new IdentityHashMap<>());
+            boolean otherChanges;
+            synchronized (this) {
+                if (!needsBackup) {
+                    return;
+                }
+                entriesToBackup.addAll(changedEntries);
+                changedEntries.clear();
+                otherChanges = needsCheckpoint;
+                needsCheckpoint = false;
+                needsBackup = false;
+            }
+
+            Header header = Header.of(bibDatabaseContext.getDatabase());
+            boolean successful;
+            if (otherChanges || !canAppendToJournal(header)) {
+                successful = writeCheckpoint(backupPath, header);
+            } else {
+                successful = appendToJournal(entriesToBackup);
+            }
+
+            if (!successful) {
+                synchronized (this) {
+                    // The changes are not tracked anymore, thus the next backup has to write the complete database
+                    needsCheckpoint = true;
+                    needsBackup = true;
+                }
+            }
         }
+    }
 
+    private boolean canAppendToJournal(Header header) {
+        return (checkpoint != null)
+                && header.equals(checkpointHeader)
+                // Added entries are inserted after the last entry of the checkpoint
+                && (checkpointEntryCount > 0)
+                && (backupsSinceCheckpoint < MAXIMUM_JOURNAL_BACKUP_COUNT)
+                && Files.exists(checkpoint);
+    }
+
+    /**
+     * Writes the complete database to the given path and starts a new journal
+     *
+     * @return true if the backup was written successfully
+     */
+    private boolean writeCheckpoint(Path backupPath, Header header) {
         // We opted for "while" to delete backups in case there are more than 10
         while (backupFilesQueue.size() >= MAXIMUM_BACKUP_FILE_COUNT) {
             Path oldestBackupFile = backupFilesQueue.poll();
             try {
                 Files.delete(oldestBackupFile);
+                Files.deleteIfExists(BackupJournal.getJournalPath(oldestBackupFile));
             } catch (IOException e) {
                 LOGGER.error("Could not delete backup file {}", oldestBackupFile, e);
             }
@@ -264,22 +362,29 @@ public class BackupManager {
 
         // "Clone" the database context
         // We "know" that "only" the BibEntries might be changed during writing (see [org.jabref.logic.exporter.BibDatabaseWriter.savePartOfDatabase])
-        List<BibEntry> list = bibDatabaseContext.getDatabase().getEntries().stream()
-                                                .map(BibEntry::clone)
-                                                .map(BibEntry.class::cast)
-                                                .toList();
+        // The snapshot is taken once, as entries may be inserted or removed while the checkpoint is written
+        List<BibEntry> entries = List.copyOf(bibDatabaseContext.getDatabase().getEntries());
+        Map<BibEntry, BibEntry> cloneByEntry = new IdentityHashMap<>(entries.size());
+        List<BibEntry> list = new ArrayList<>(entries.size());
+        for (BibEntry entry : entries) {
+            BibEntry clone = (BibEntry) entry.clone();
+            cloneByEntry.put(entry, clone);
+            list.add(clone);
+        }
         BibDatabase bibDatabaseClone = new BibDatabase(list);
         bibDatabaseContext.getDatabase().getStringValues().stream().map(BibtexString::clone)
                           .map(BibtexString.class::cast)
                           .forEach(bibDatabaseClone::addString);
         BibDatabaseContext bibDatabaseContextClone = new BibDatabaseContext(bibDatabaseClone, bibDatabaseContext.getMetaData());
+        // Records the positions of the entries in the checkpoint
+        IncrementalSaveState saveState = new IncrementalSaveState(bibDatabaseClone);
 
         Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
         // We want to have successful backups only
         // Thus, we do not use a plain "FileWriter", but the "AtomicFileWriter"
         // Example: What happens if one hard powers off the machine (or kills the jabref process) during writing of the backup?
         //          This MUST NOT create a broken backup file that then jabref wants to "restore" from?
-        try (Writer writer = new AtomicFileWriter(backupPath, encoding, false)) {
+        try (AtomicFileWriter writer = new AtomicFileWriter(backupPath, encoding, false)) {
             BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
             new BibtexDatabaseWriter(
                     bibWriter,
@@ -288,15 +393,90 @@ public class BackupManager {
                     preferences.getCitationKeyPatternPreferences(),
                     entryTypesManager)
                     // we save the clone to prevent the original database (and thus the UI) from being changed
-                    .saveDatabase(bibDatabaseContextClone);
+                    .saveDatabase(bibDatabaseContextClone, saveState, writer);
             backupFilesQueue.add(backupPath);
-
-            // We wrote the file successfully
-            // Thus, we currently do not need any new backup
-            this.needsBackup = false;
         } catch (IOException e) {
             logIfCritical(backupPath, e);
+            return false;
+        }
+
+        // The previous checkpoint stays as backup file, thus it should contain the state of its last backup
+        if ((checkpoint != null) && !checkpoint.equals(backupPath)) {
+            try {
+                BackupJournal.applyToCheckpoint(checkpoint);
+            } catch (IOException e) {
+                LOGGER.error("Could not apply the journal of backup file {}", checkpoint, e);
+            }
+        }
+
+        checkpoint = backupPath;
+        checkpointHeader = header;
+        slotByEntry = new IdentityHashMap<>();
+        entriesEnd = 0;
+        for (BibEntry entry : entries) {
+            Optional<IncrementalSaveState.EntryPosition> position = saveState.getPosition(cloneByEntry.get(entry));
+            if (position.isPresent()) {
+                slotByEntry.put(entry, new BackupJournal.Slot(slotByEntry.size(), position.get().start(), position.get().end()));
+                entriesEnd = Math.max(entriesEnd, position.get().end());
+            }
+        }
+        checkpointEntryCount = slotByEntry.size();
+        backupsSinceCheckpoint = 0;
+        return true;
+    }
+
+    /**
+     * Appends the given entries to the journal of the current checkpoint
+     *
+     * @return true if the backup was written successfully
+     */
+    private boolean appendToJournal(Set<BibEntry> entriesToBackup) {
+        BibDatabase database = bibDatabaseContext.getDatabase();
+        Charset encoding = bibDatabaseContext.getMetaData().getEncoding().orElse(StandardCharsets.UTF_8);
+        BibEntryWriter entryWriter = new BibEntryWriter(new FieldWriter(preferences.getFieldPreferences()), entryTypesManager);
+
+        List<BackupJournal.EntryText> texts = new ArrayList<>(entriesToBackup.size());
+        try {
+            for (BibEntry entry : entriesToBackup) {
+                boolean isInDatabase = (database.getEntryById(entry.getId()) == entry) && !entry.isEmpty();
+                BackupJournal.Slot slot = slotByEntry.get(entry);
+                if (slot == null) {
+                    if (!isInDatabase) {
+                        // Added and removed since the checkpoint
+                        continue;
+                    }
+                    slot = new BackupJournal.Slot(slotByEntry.size(), entriesEnd, entriesEnd);
+                    slotByEntry.put(entry, slot);
+                }
+
+                String text = "";
+                if (isInDatabase) {
+                    text = serialize(entry, entryWriter);
+                    if (slot.start() == slot.end()) {
+                        // Separates the added entry from the previous one
+                        text = database.getNewLineSeparator() + text;
+                    }
+                }
+                texts.add(new BackupJournal.EntryText(slot, text.getBytes(encoding)));
+            }
+            BackupJournal.append(checkpoint, texts);
+        } catch (IOException e) {
+            logIfCritical(checkpoint, e);
+            return false;
         }
+        backupsSinceCheckpoint++;
+        return true;
+    }
+
+    private String serialize(BibEntry entry, BibEntryWriter entryWriter) throws IOException {
+        // Like for the checkpoint, we clean up a clone to prevent the original entry (and thus the UI) from being changed
+        BibEntry clone = (BibEntry) entry.clone();
+        BibDatabaseWriter.applySaveActions(clone, bibDatabaseContext.getMetaData(), preferences.getFieldPreferences());
+
+        StringWriter writer = new StringWriter();
+        BibWriter bibWriter = new BibWriter(writer, bibDatabaseContext.getDatabase().getNewLineSeparator());
+        entryWriter.write(clone, bibWriter, bibDatabaseContext.getMode(), preferences.getLibraryPreferences().shouldAlwaysReformatOnSave());
+        return writer.toString();
     }
 
     private static Path determineDiscardedFile(Path file, Path backupDir) {
@@ -332,7 +512,13 @@ public class BackupManager {
     }
 
     @Subscribe
-    public synchronized void listen(@SuppressWarnings("unused") BibDatabaseContextChangedEvent event) {
+    public synchronized void listen(BibDatabaseContextChangedEvent event) {
+        if (event instanceof EntriesEvent entriesEvent) {
+            // Also the entries of filtered events are included in the next backup
+            changedEntries.addAll(entriesEvent.getBibEntries());
+        } else {
+            needsCheckpoint = true;
+        }
         if (!event.isFilteredOut()) {
             this.needsBackup = true;
         }
@@ -358,8 +544,10 @@ public class BackupManager {
             final String prefix = BackupFileUtil.getUniqueFilePrefix(databasePath) + "--" + databasePath.getFileName();
             try {
                 List<Path> allSavFiles = Files.list(backupDir)
-                                              // just list the .sav belonging to the given targetFile
+                                              // just list the backup files belonging to the given targetFile
                                               .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                              // the journals are deleted together with their backup file
+                                              .filter(p -> p.getFileName().toString().endsWith(BACKUP_FILE_EXTENSION))
                                               .sorted().toList();
                 backupFilesQueue.addAll(allSavFiles);
             } catch (IOException e) {
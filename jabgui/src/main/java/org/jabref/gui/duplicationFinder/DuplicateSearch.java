@@ -1,7 +1,6 @@
 package org.jabref.gui.duplicationFinder;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,12 +27,11 @@ import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.FindDuplicatesTask;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
-import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
-import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
 
@@ -47,7 +45,6 @@ public class DuplicateSearch extends SimpleCommand {
     private final AtomicBoolean libraryAnalyzed = new AtomicBoolean();
     private final AtomicBoolean autoRemoveExactDuplicates = new AtomicBoolean();
     private final AtomicInteger duplicateCount = new AtomicInteger();
-    private final SimpleStringProperty duplicateCountObservable = new SimpleStringProperty();
     private final SimpleStringProperty duplicateTotal = new SimpleStringProperty();
     private final SimpleIntegerProperty duplicateProgress = new SimpleIntegerProperty(0);
     private final DialogService dialogService;
@@ -57,6 +54,8 @@ public class DuplicateSearch extends SimpleCommand {
     private final BibEntryTypesManager entryTypesManager;
     private final TaskExecutor taskExecutor;
 
+    private FindDuplicatesTask findDuplicatesTask;
+
     public DuplicateSearch(Supplier<LibraryTab> tabSupplier,
                            DialogService dialogService,
                            StateManager stateManager,
@@ -88,33 +87,19 @@ public class DuplicateSearch extends SimpleCommand {
             return;
         }
 
-        duplicateCountObservable.addListener((obj, oldValue, newValue) -> UiTaskExecutor.runAndWaitInJavaFXThread(() -> duplicateTotal.set(newValue)));
-
-        HeadlessExecutorService.INSTANCE.executeInterruptableTask(() -> searchPossibleDuplicates(entries, database.getMode()), "DuplicateSearcher");
+        // Found pairs are pushed to the queue while the search runs on all cores, so that the user can already resolve them
+        findDuplicatesTask = new FindDuplicatesTask(entries, database.getMode(), entryTypesManager, duplicates);
+        findDuplicatesTask.duplicateCountProperty().addListener((obj, oldValue, newValue) -> {
+            duplicateCount.set(newValue.intValue());
+            UiTaskExecutor.runInJavaFXThread(() -> duplicateTotal.set(String.valueOf(newValue)));
+        });
+        findDuplicatesTask.onFinished(() -> libraryAnalyzed.set(true))
+                          .executeWith(taskExecutor);
         BackgroundTask.wrap(this::verifyDuplicates)
                       .onSuccess(this::handleDuplicates)
                       .executeWith(taskExecutor);
     }
 
-    private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
-                    duplicates.add(Arrays.asList(first, second));
-                    duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
-                }
-            }
-        }
-        libraryAnalyzed.set(true);
-    }
-
     private DuplicateSearchResult verifyDuplicates() {
         DuplicateSearchResult result = new DuplicateSearchResult();
 
@@ -174,6 +159,7 @@ public class DuplicateSearch extends SimpleCommand {
             result.remove(first);
             result.replace(second, dialog.getNewRightEntry());
         } else if (resolverResult == DuplicateResolverResult.BREAK) {
+            findDuplicatesTask.cancel();
             libraryAnalyzed.set(true);
             duplicates.clear();
         } else if (resolverResult == DuplicateResolverResult.KEEP_MERGE) {
@@ -191,18 +177,21 @@ public class DuplicateSearch extends SimpleCommand {
 
         LibraryTab libraryTab = tabSupplier.get();
         final NamedCompound compoundEdit = new NamedCompound(Localization.lang("duplicate removal"));
-        // Now, do the actual removal:
-        if (!result.getToRemove().isEmpty()) {
-            compoundEdit.addEdit(new UndoableRemoveEntries(libraryTab.getDatabase(), result.getToRemove()));
-            libraryTab.getDatabase().removeEntries(result.getToRemove());
-            libraryTab.markBaseChanged();
-        }
-        // and adding merged entries:
-        if (!result.getToAdd().isEmpty()) {
-            compoundEdit.addEdit(new UndoableInsertEntries(libraryTab.getDatabase(), result.getToAdd()));
-            libraryTab.getDatabase().insertEntries(result.getToAdd());
-            libraryTab.markBaseChanged();
-        }
+        // The main table and the groups are updated only once for the removed and the merged entries
+        libraryTab.getDatabase().runAsSingleChange(() -> {
+            // Now, do the actual removal:
+            if (!result.getToRemove().isEmpty()) {
+                compoundEdit.addEdit(new UndoableRemoveEntries(libraryTab.getDatabase(), result.getToRemove()));
+                libraryTab.getDatabase().removeEntries(result.getToRemove());
+                libraryTab.markBaseChanged();
+            }
+            // and adding merged entries:
+            if (!result.getToAdd().isEmpty()) {
+                compoundEdit.addEdit(new UndoableInsertEntries(libraryTab.getDatabase(), result.getToAdd()));
+                libraryTab.getDatabase().insertEntries(result.getToAdd());
+                libraryTab.markBaseChanged();
+            }
+        });
 
         duplicateProgress.set(0);
 
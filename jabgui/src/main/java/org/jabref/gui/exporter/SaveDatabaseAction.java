@@ -273,7 +273,7 @@ public class SaveDatabaseAction {
                 if (selectedOnly) {
                     databaseWriter.savePartOfDatabase(bibDatabaseContext, libraryTab.getSelectedEntries());
                 } else {
-                    databaseWriter.saveDatabase(bibDatabaseContext);
+                    databaseWriter.saveDatabase(bibDatabaseContext, libraryTab.getIncrementalSaveState(), fileWriter);
                 }
 
                 libraryTab.registerUndoableChanges(databaseWriter.getSaveActionsFieldChanges());
@@ -538,9 +538,7 @@ public class GroupNodeViewModel {
         public void listen(IndexAddedOrUpdatedEvent event) {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 stateManager.getIndexManager(databaseContext).ifPresent(indexManager -> BackgroundTask.wrap(() -> {
-                    for (BibEntry entry : event.entries()) {
-                        searchGroup.updateMatches(entry, indexManager.isEntryMatched(entry, searchGroup.getSearchQuery()));
-                    }
+                    searchGroup.updateMatches(event.entries(), indexManager.getMatchedEntries(event.entries(), searchGroup.getSearchQuery()));
                 }).onFinished(() -> {
                     for (BibEntry entry : event.entries()) {
                         if (groupNode.matches(entry)) {
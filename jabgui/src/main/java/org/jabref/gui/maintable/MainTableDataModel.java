@@ -1,5 +1,6 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,8 +42,6 @@ import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
-
 public class MainTableDataModel {
     private final Logger LOGGER = LoggerFactory.getLogger(MainTableDataModel.class);
 
@@ -213,34 +212,31 @@ public class MainTableDataModel {
     class SearchIndexListener {
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent indexAddedOrUpdatedEvent) {
-            indexAddedOrUpdatedEvent.entries().forEach(entry -> BackgroundTask.wrap(() -> {
-                int index = bibDatabaseContext.getDatabase().indexOf(entry);
-                if (index >= 0) {
-                    BibEntryTableViewModel viewModel = entriesViewModel.get(index);
-                    boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-                    boolean isMatched;
-                    if (searchQueryProperty.get().isPresent()) {
-                        SearchQuery searchQuery = searchQueryProperty.get().get();
-                        String newSearchExpression = "(" + ENTRY_ID + "= " + entry.getId() + ") AND (" + searchQuery.getSearchExpression() + ")";
-                        SearchQuery entryQuery = new SearchQuery(newSearchExpression, searchQuery.getSearchFlags());
-                        SearchResults results = indexManager.search(entryQuery);
-
-                        isMatched = results.isMatched(entry);
-                        viewModel.hasFullTextResultsProperty().set(results.hasFulltextResults(entry));
-                    } else {
-                        isMatched = true;
-                        viewModel.hasFullTextResultsProperty().set(false);
+            List<BibEntry> entries = indexAddedOrUpdatedEvent.entries();
+            BackgroundTask.wrap(() -> {
+                // One query for all changed entries instead of one query per entry
+                Optional<SearchResults> results = searchQueryProperty.get().map(searchQuery -> indexManager.search(searchQuery, entries));
+                boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+                boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
+                boolean isGroupFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
+
+                List<Integer> indices = new ArrayList<>();
+                for (BibEntry entry : entries) {
+                    int index = bibDatabaseContext.getDatabase().indexOf(entry);
+                    if (index < 0) {
+                        continue;
                     }
+                    BibEntryTableViewModel viewModel = entriesViewModel.get(index);
+                    boolean isMatched = results.map(searchResults -> searchResults.isMatched(entry)).orElse(true);
+                    viewModel.hasFullTextResultsProperty().set(results.map(searchResults -> searchResults.hasFulltextResults(entry)).orElse(false));
 
                     updateEntrySearchMatch(viewModel, isMatched, isFloatingMode);
-                    updateEntryGroupMatch(viewModel, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
-                }
-                return index;
-            }).onSuccess(index -> {
-                if (index >= 0) {
-                    FilteredListProxy.refilterListReflection(entriesFiltered, index, index + 1);
+                    updateEntryGroupMatch(viewModel, groupsMatcher, isInvertMode, isGroupFloatingMode);
+                    indices.add(index);
                 }
-            }).executeWith(taskExecutor));
+                return indices;
+            }).onSuccess(indices -> indices.forEach(index -> FilteredListProxy.refilterListReflection(entriesFiltered, index, index + 1)))
+              .executeWith(taskExecutor);
         }
 
         @Subscribe
@@ -28,7 +28,6 @@ import org.jabref.gui.search.Highlighter;
 import org.jabref.gui.theme.ThemeManager;
 import org.jabref.gui.util.WebViewStore;
 import org.jabref.logic.l10n.Localization;
-import org.jabref.logic.layout.format.Number;
 import org.jabref.logic.preview.PreviewLayout;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
@@ -200,8 +199,6 @@ public class PreviewViewer extends ScrollPane implements InvalidationListener {
             return;
         }
 
-        Number.serialExportNumber = 1; // Set entry number in case that is included in the preview layout.
-
         final BibEntry theEntry = entry;
         BackgroundTask
                 .wrap(() -> layout.generatePreview(theEntry, databaseContext))
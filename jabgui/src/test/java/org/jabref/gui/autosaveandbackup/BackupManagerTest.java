@@ -2,6 +2,7 @@ package org.jabref.gui.autosaveandbackup;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -17,7 +18,10 @@ import org.jabref.logic.util.Directories;
 import org.jabref.logic.util.io.BackupFileUtil;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
 import org.jabref.model.groups.event.GroupUpdatedEvent;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.event.MetaDataChangedEvent;
@@ -189,4 +193,88 @@ class BackupManagerTest {
         // due to timing issues we cannot test that reliable
         assertEquals(fullBackupPath.get(), files.getFirst());
     }
+
+    @Test
+    void journalAppliedToCheckpointEqualsCompleteBackup(@TempDir Path customDir) throws IOException {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+
+        BibEntry first = new BibEntry(StandardEntryType.Article).withCitationKey("first").withField(StandardField.TITLE, "First");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withCitationKey("second").withField(StandardField.TITLE, "Second");
+        var database = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        database.setDatabasePath(bibFile);
+
+        var preferences = mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS);
+        BibEntryTypesManager entryTypesManager = new BibEntryTypesManager();
+        BackupManager manager = new BackupManager(mock(LibraryTab.class), database, entryTypesManager, preferences);
+
+        String backupFilePrefix = BackupFileUtil.getUniqueFilePrefix(bibFile) + "--Bibfile.bib--";
+        Path checkpoint = backupDir.resolve(backupFilePrefix + "2020-02-03--00.00.00.bak");
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(checkpoint);
+
+        first.setField(StandardField.TITLE, "Changed title");
+        database.getDatabase().insertEntry(new BibEntry(StandardEntryType.Book).withCitationKey("third"));
+        manager.performBackup(backupDir.resolve(backupFilePrefix + "2020-02-03--00.00.01.bak"));
+
+        // Only the changed entries are written to the journal of the checkpoint
+        assertEquals(List.of(checkpoint, BackupJournal.getJournalPath(checkpoint)), Files.list(backupDir).sorted().toList());
+
+        Path completeBackup = customDir.resolve("complete.bak");
+        BackupManager otherManager = new BackupManager(mock(LibraryTab.class), database, entryTypesManager, preferences);
+        otherManager.listen(new MetaDataChangedEvent(new MetaData()));
+        otherManager.performBackup(completeBackup);
+
+        BackupManager.restoreBackup(bibFile, backupDir);
+
+        assertEquals(Files.readString(completeBackup), Files.readString(bibFile));
+        assertFalse(Files.exists(BackupJournal.getJournalPath(checkpoint)));
+    }
+
+    @Test
+    void journalRemovesDeletedEntry(@TempDir Path customDir) throws IOException {
+        Path backupDir = customDir.resolve("subBackupDir");
+        Files.createDirectories(backupDir);
+        Path bibFile = customDir.resolve("Bibfile.bib");
+        Files.writeString(bibFile, "");
+        Files.setLastModifiedTime(bibFile, FileTime.fromMillis(0));
+
+        BibEntry first = new BibEntry(StandardEntryType.Article).withCitationKey("first");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withCitationKey("second");
+        var database = new BibDatabaseContext(new BibDatabase(List.of(first, second)));
+        database.setDatabasePath(bibFile);
+
+        BackupManager manager = new BackupManager(mock(LibraryTab.class), database, new BibEntryTypesManager(), mock(CliPreferences.class, Answers.RETURNS_DEEP_STUBS));
+        Path checkpoint = backupDir.resolve(BackupFileUtil.getUniqueFilePrefix(bibFile) + "--Bibfile.bib--2020-02-03--00.00.00.bak");
+        manager.listen(new MetaDataChangedEvent(new MetaData()));
+        manager.performBackup(checkpoint);
+        database.getDatabase().removeEntry(second);
+        manager.performBackup(checkpoint);
+
+        // Applies the journal before comparing
+        assertTrue(BackupManager.backupFileDiffers(bibFile, backupDir));
+        assertFalse(Files.exists(BackupJournal.getJournalPath(checkpoint)));
+        String backup = Files.readString(checkpoint);
+        assertTrue(backup.contains("first"));
+        assertFalse(backup.contains("second"));
+    }
+
+    @Test
+    void journalNotAppliedTwiceAfterTerminationBeforeDeletingIt(@TempDir Path customDir) throws IOException {
+        Path checkpoint = customDir.resolve("checkpoint.bak");
+        Files.writeString(checkpoint, "@Article{first,}\n@Article{second,}\n");
+        BackupJournal.append(checkpoint, List.of(new BackupJournal.EntryText(new BackupJournal.Slot(0, 0, 17), "@Article{changed,}\n".getBytes(StandardCharsets.UTF_8))));
+        Path journal = BackupJournal.getJournalPath(checkpoint);
+        Path journalCopy = customDir.resolve("journal.copy");
+        Files.copy(journal, journalCopy);
+
+        BackupJournal.applyToCheckpoint(checkpoint);
+        // Simulates that JabRef was terminated after replacing the checkpoint, but before deleting the journal
+        Files.copy(journalCopy, journal);
+        BackupJournal.applyToCheckpoint(checkpoint);
+
+        assertEquals("@Article{changed,}\n@Article{second,}\n", Files.readString(checkpoint));
+        assertFalse(Files.exists(journal));
+    }
 }
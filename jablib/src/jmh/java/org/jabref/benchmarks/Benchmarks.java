@@ -100,6 +100,13 @@ public class Benchmarks {
         return parser.parse(new StringReader(bibtexString));
     }
 
+    @Benchmark
+    public ParserResult parseInParallel() throws IOException {
+        CliPreferences preferences = Injector.instantiateModelOrService(CliPreferences.class);
+        BibtexParser parser = new BibtexParser(preferences.getImportFormatPreferences());
+        return parser.parseInParallel(new StringReader(bibtexString));
+    }
+
     @Benchmark
     public String write() throws IOException {
         return getOutputWriter().toString();
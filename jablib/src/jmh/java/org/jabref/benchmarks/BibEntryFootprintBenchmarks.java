@@ -0,0 +1,74 @@
+package org.jabref.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Creates a library with 200k entries, renders some fields of all entries as the main table does, and prints the heap used by the library after each iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class BibEntryFootprintBenchmarks {
+    private static final int ENTRIES = 200_000;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+
+    private long heapBefore;
+    private BibDatabase database;
+
+    @Setup(Level.Iteration)
+    public void init() {
+        database = null;
+        heapBefore = usedHeapAfterGc();
+    }
+
+    @TearDown(Level.Iteration)
+    public void printFootprint() {
+        long heapAfter = usedHeapAfterGc();
+        System.out.println("Heap used by " + database.getEntryCount() + " entries: " + (heapAfter - heapBefore) / (1024 * 1024) + " MB ("
+                + (heapAfter - heapBefore) / ENTRIES + " bytes per entry)");
+    }
+
+    @Benchmark
+    public BibDatabase createLibrary() {
+        List<BibEntry> entries = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            BibEntry entry = new BibEntry(StandardEntryType.Article)
+                    .withCitationKey("Lastname" + i)
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + i + " and Firstname Lastname" + (i + 1))
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.JOURNAL, "Journal Title " + (i % 1000))
+                    .withField(StandardField.YEAR, String.valueOf(1950 + (i % 75)))
+                    .withField(StandardField.PAGES, i + "--" + (i + 10))
+                    .withField(StandardField.DOI, "10.1000/" + i);
+            entries.add(entry);
+        }
+        database = new BibDatabase(entries);
+        for (BibEntry entry : database.getEntries()) {
+            entry.getFieldLatexFree(StandardField.AUTHOR);
+            entry.getFieldLatexFree(StandardField.TITLE);
+        }
+        return database;
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        return memoryBean.getHeapMemoryUsage().getUsed();
+    }
+}
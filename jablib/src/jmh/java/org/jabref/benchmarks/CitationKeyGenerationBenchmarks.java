@@ -0,0 +1,67 @@
+package org.jabref.benchmarks;
+
+import java.util.Random;
+
+import org.jabref.logic.citationkeypattern.CitationKeyGenerator;
+import org.jabref.logic.citationkeypattern.CitationKeyPatternPreferences;
+import org.jabref.logic.citationkeypattern.GlobalCitationKeyPatterns;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generates the citation keys of all entries of a library with 60k entries, as "Generate citation keys" does for a whole library.
+ * Many entries share their author and year, thus most keys need a suffix, for which the generator checks the existing keys repeatedly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+public class CitationKeyGenerationBenchmarks {
+    private static final int ENTRIES = 60_000;
+    private static final int AUTHORS = 1_000;
+    private static final int YEARS = 10;
+
+    private BibDatabase database;
+    private CitationKeyGenerator keyGenerator;
+
+    @Setup(Level.Iteration)
+    public void init() {
+        Random random = new Random(42);
+        database = new BibDatabase();
+        for (int i = 0; i < ENTRIES; i++) {
+            database.insertEntry(new BibEntry()
+                    .withField(StandardField.AUTHOR, "Firstname Lastname" + random.nextInt(AUTHORS))
+                    .withField(StandardField.TITLE, "This is my title " + i)
+                    .withField(StandardField.YEAR, String.valueOf(2000 + random.nextInt(YEARS))));
+        }
+
+        CitationKeyPatternPreferences preferences = new CitationKeyPatternPreferences(
+                false,
+                false,
+                false,
+                CitationKeyPatternPreferences.KeySuffix.SECOND_WITH_A,
+                "",
+                "",
+                CitationKeyGenerator.DEFAULT_UNWANTED_CHARACTERS,
+                GlobalCitationKeyPatterns.fromPattern("[auth][year]"),
+                "",
+                ',');
+        keyGenerator = new CitationKeyGenerator(new BibDatabaseContext(database), preferences);
+    }
+
+    @Benchmark
+    public BibDatabase generateKeys() {
+        for (BibEntry entry : database.getEntries()) {
+            keyGenerator.generateAndSetKey(entry);
+        }
+        return database;
+    }
+}
@@ -0,0 +1,93 @@
+package org.jabref.benchmarks;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Random;
+
+import org.jabref.logic.ai.ingestion.MVStoreEmbeddingStore;
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.EmbeddingSearchResult;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares the search latency of the vector encodings of {@link MVStoreEmbeddingStore}.
+ * The size of the store file is printed after each trial.
+ */
+@State(Scope.Benchmark)
+public class EmbeddingStoreBenchmarks {
+    private static final int FILES = 200;
+    private static final int EMBEDDINGS_PER_FILE = 100;
+    // Dimension of the default embedding model (all-MiniLM-L12-v2)
+    private static final int DIMENSION = 384;
+
+    @Param({"FLOAT32", "INT8"})
+    public MVStoreEmbeddingStore.VectorEncoding encoding;
+
+    private final Random random = new Random(42);
+
+    private Path storeFile;
+    private MVStoreEmbeddingStore embeddingStore;
+    private Embedding query;
+
+    @Setup(Level.Trial)
+    public void init() throws IOException {
+        storeFile = Files.createTempDirectory("embeddings").resolve("embeddings.mv");
+        embeddingStore = new MVStoreEmbeddingStore(storeFile, mock(NotificationService.class), encoding);
+        for (int file = 0; file < FILES; file++) {
+            for (int i = 0; i < EMBEDDINGS_PER_FILE; i++) {
+                TextSegment segment = new TextSegment("Text of segment " + i + " of file " + file, new Metadata(Map.of(LINK_METADATA_KEY, "file" + file + ".pdf")));
+                embeddingStore.add(randomEmbedding(), segment);
+            }
+        }
+        embeddingStore.commit();
+        query = randomEmbedding();
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws IOException {
+        embeddingStore.close();
+        System.out.println("Size of store file with encoding " + encoding + ": " + Files.size(storeFile) + " bytes");
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> searchAll() {
+        return embeddingStore.search(EmbeddingSearchRequest.builder()
+                                                           .queryEmbedding(query)
+                                                           .maxResults(10)
+                                                           .build());
+    }
+
+    @Benchmark
+    public EmbeddingSearchResult<TextSegment> searchInOneFile() {
+        return embeddingStore.search(EmbeddingSearchRequest.builder()
+                                                           .queryEmbedding(query)
+                                                           .maxResults(10)
+                                                           .filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("file7.pdf"))
+                                                           .build());
+    }
+
+    private Embedding randomEmbedding() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return Embedding.from(vector);
+    }
+}
@@ -0,0 +1,55 @@
+package org.jabref.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.jabref.logic.journals.JournalAbbreviationLoader;
+import org.jabref.logic.journals.JournalAbbreviationRepository;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Abbreviates the journals of 50k entries, as the abbreviation cleanup and the integrity check do for a large library.
+ * A part of the journal names contains typos, which are resolved by the fuzzy matching.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+public class JournalAbbreviationBenchmarks {
+    private static final int ENTRIES = 50_000;
+
+    private JournalAbbreviationRepository repository;
+    private final List<String> exactJournalNames = new ArrayList<>();
+    private final List<String> misspelledJournalNames = new ArrayList<>();
+
+    @Setup
+    public void init() {
+        repository = JournalAbbreviationLoader.loadBuiltInRepository();
+
+        Random random = new Random(42);
+        List<String> fullNames = new ArrayList<>(repository.getFullNames());
+        for (int i = 0; i < ENTRIES; i++) {
+            String name = fullNames.get(random.nextInt(fullNames.size()));
+            exactJournalNames.add(name);
+            // Remove one character to simulate a typo
+            int position = random.nextInt(name.length());
+            misspelledJournalNames.add(name.substring(0, position) + name.substring(position + 1));
+        }
+    }
+
+    @Benchmark
+    public List<Optional<String>> abbreviateExactNames() {
+        return exactJournalNames.stream().map(repository::getDefaultAbbreviation).toList();
+    }
+
+    @Benchmark
+    public List<Optional<String>> abbreviateMisspelledNames() {
+        return misspelledJournalNames.stream().map(repository::getDefaultAbbreviation).toList();
+    }
+}
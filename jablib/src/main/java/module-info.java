@@ -98,6 +98,7 @@ open module org.jabref.jablib {
     exports org.jabref.logic.ai.templates;
     exports org.jabref.logic.bst;
     exports org.jabref.model.study;
+    exports org.jabref.model.paging;
     exports org.jabref.logic.shared.security;
     exports org.jabref.logic.shared.event;
     exports org.jabref.logic.crawler;
@@ -0,0 +1,83 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.h2.mvstore.DataUtils;
+import org.h2.mvstore.WriteBuffer;
+import org.h2.mvstore.type.BasicDataType;
+
+/**
+ * Stores embedding vectors in a compact binary form instead of using Java serialization.
+ * <p>
+ * Each vector starts with its {@link MVStoreEmbeddingStore.VectorEncoding encoding} and its dimension, thus vectors of both encodings can be read, regardless of the encoding used for writing.
+ * <ul>
+ *     <li>{@link MVStoreEmbeddingStore.VectorEncoding#FLOAT32}: the components as little-endian floats</li>
+ *     <li>{@link MVStoreEmbeddingStore.VectorEncoding#INT8}: a scale (the largest absolute component divided by 127), followed by each component divided by the scale, rounded to a byte</li>
+ * </ul>
+ */
+class EmbeddingVectorDataType extends BasicDataType<float[]> {
+    private static final int MAX_INT8 = 127;
+
+    private final MVStoreEmbeddingStore.VectorEncoding encoding;
+
+    EmbeddingVectorDataType(MVStoreEmbeddingStore.VectorEncoding encoding) {
+        this.encoding = encoding;
+    }
+
+    @Override
+    public int getMemory(float[] vector) {
+        return 24 + vector.length * Float.BYTES;
+    }
+
+    @Override
+    public void write(WriteBuffer buff, float[] vector) {
+        buff.put((byte) encoding.ordinal());
+        buff.putVarInt(vector.length);
+        switch (encoding) {
+            case FLOAT32 -> {
+                ByteBuffer bytes = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+                bytes.asFloatBuffer().put(vector);
+                buff.put(bytes.array());
+            }
+            case INT8 -> {
+                float max = 0;
+                for (float component : vector) {
+                    max = Math.max(max, Math.abs(component));
+                }
+                float scale = max == 0 ? 1 : max / MAX_INT8;
+                buff.putFloat(scale);
+                byte[] bytes = new byte[vector.length];
+                for (int i = 0; i < vector.length; i++) {
+                    bytes[i] = (byte) Math.round(vector[i] / scale);
+                }
+                buff.put(bytes);
+            }
+        }
+    }
+
+    @Override
+    public float[] read(ByteBuffer buff) {
+        MVStoreEmbeddingStore.VectorEncoding storedEncoding = MVStoreEmbeddingStore.VectorEncoding.values()[buff.get()];
+        float[] vector = new float[DataUtils.readVarInt(buff)];
+        switch (storedEncoding) {
+            case FLOAT32 -> {
+                ByteBuffer bytes = buff.slice().order(ByteOrder.LITTLE_ENDIAN);
+                bytes.asFloatBuffer().get(vector);
+                buff.position(buff.position() + vector.length * Float.BYTES);
+            }
+            case INT8 -> {
+                float scale = buff.getFloat();
+                for (int i = 0; i < vector.length; i++) {
+                    vector[i] = buff.get() * scale;
+                }
+            }
+        }
+        return vector;
+    }
+
+    @Override
+    public float[][] createStorage(int size) {
+        return new float[size][];
+    }
+}
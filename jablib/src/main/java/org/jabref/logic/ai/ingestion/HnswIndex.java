@@ -0,0 +1,297 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+/**
+ * A Hierarchical Navigable Small World (HNSW) graph for the approximate nearest neighbour search of embeddings by cosine similarity.
+ * <p>
+ * The graph is kept in maps of the given {@link MVStore}, so that it is persisted together with the embeddings.
+ * The vectors themselves are not stored in the graph, they are looked up by id.
+ * <p>
+ * Based on Malkov and Yashunin, "Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs".
+ */
+class HnswIndex {
+    /**
+     * Maximum number of neighbours of a node on the levels above the lowest one
+     */
+    private static final int MAX_NEIGHBOURS = 16;
+    private static final int MAX_NEIGHBOURS_LOWEST_LEVEL = 2 * MAX_NEIGHBOURS;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(MAX_NEIGHBOURS);
+    private static final String ENTRY_POINT_KEY = "entryPoint";
+    private static final String[] NO_NEIGHBOURS = new String[0];
+
+    record Match(String id, double similarity) {
+    }
+
+    private static final Comparator<Match> BY_SIMILARITY = Comparator.comparingDouble(Match::similarity);
+
+    // id -> highest level of the node
+    private final MVMap<String, Integer> levels;
+    // id + '/' + level -> ids of the neighbours of the node on that level
+    private final MVMap<String, String[]> neighbours;
+    private final MVMap<String, String> metadata;
+    private final Function<String, float[]> vectors;
+    private final Random random = new Random();
+
+    /**
+     * @param vectors returns the vector of the embedding with the given id, or <code>null</code> if it was removed
+     */
+    HnswIndex(MVStore mvStore, String name, Function<String, float[]> vectors) {
+        this.levels = mvStore.openMap(name + "-levels");
+        this.neighbours = mvStore.openMap(name + "-neighbours");
+        this.metadata = mvStore.openMap(name + "-metadata");
+        this.vectors = vectors;
+    }
+
+    synchronized int size() {
+        return levels.size();
+    }
+
+    synchronized void clear() {
+        levels.clear();
+        neighbours.clear();
+        metadata.clear();
+    }
+
+    synchronized void add(String id, float[] vector) {
+        if (levels.containsKey(id)) {
+            remove(id);
+        }
+
+        int level = (int) (-Math.log(1 - random.nextDouble()) * LEVEL_MULTIPLIER);
+        String entryPoint = metadata.get(ENTRY_POINT_KEY);
+        levels.put(id, level);
+        if (entryPoint == null) {
+            for (int l = 0; l <= level; l++) {
+                neighbours.put(key(id, l), NO_NEIGHBOURS);
+            }
+            metadata.put(ENTRY_POINT_KEY, id);
+            return;
+        }
+
+        int topLevel = levels.get(entryPoint);
+        Match current = new Match(entryPoint, similarity(vector, entryPoint));
+        for (int l = topLevel; l > level; l--) {
+            current = searchGreedy(vector, current, l);
+        }
+
+        List<Match> entryPoints = List.of(current);
+        for (int l = Math.min(level, topLevel); l >= 0; l--) {
+            List<Match> candidates = searchLevel(vector, entryPoints, EF_CONSTRUCTION, l, candidate -> !candidate.equals(id));
+            List<Match> selected = candidates.subList(0, Math.min(candidates.size(), maxNeighbours(l)));
+            neighbours.put(key(id, l), selected.stream().map(Match::id).toArray(String[]::new));
+            for (Match neighbour : selected) {
+                connect(neighbour.id(), id, l);
+            }
+            entryPoints = candidates;
+        }
+        for (int l = topLevel + 1; l <= level; l++) {
+            neighbours.put(key(id, l), NO_NEIGHBOURS);
+        }
+        if (level > topLevel) {
+            metadata.put(ENTRY_POINT_KEY, id);
+        }
+    }
+
+    synchronized void remove(String id) {
+        Integer level = levels.remove(id);
+        if (level == null) {
+            return;
+        }
+
+        for (int l = 0; l <= level; l++) {
+            String[] ownNeighbours = neighbours.remove(key(id, l));
+            if (ownNeighbours == null) {
+                continue;
+            }
+            // Reconnect the neighbours among each other, so that the graph stays navigable
+            for (String neighbour : ownNeighbours) {
+                String[] theirNeighbours = neighbours.get(key(neighbour, l));
+                if (theirNeighbours == null || !List.of(theirNeighbours).contains(id)) {
+                    continue;
+                }
+                Set<String> candidates = new LinkedHashSet<>(List.of(theirNeighbours));
+                candidates.addAll(List.of(ownNeighbours));
+                candidates.remove(id);
+                candidates.remove(neighbour);
+                neighbours.put(key(neighbour, l), selectNeighbours(neighbour, candidates, l));
+            }
+        }
+
+        if (id.equals(metadata.get(ENTRY_POINT_KEY))) {
+            levels.entrySet().stream()
+                  .max(Map.Entry.comparingByValue())
+                  .ifPresentOrElse(
+                          newEntryPoint -> metadata.put(ENTRY_POINT_KEY, newEntryPoint.getKey()),
+                          () -> metadata.remove(ENTRY_POINT_KEY));
+        }
+    }
+
+    /**
+     * @param ef     the number of candidates to track during the search. Higher values increase the accuracy.
+     * @param accept the nodes which may be part of the result. Other nodes are still used for navigating the graph.
+     * @return the (approximately) most similar accepted nodes, the most similar first
+     */
+    synchronized List<Match> search(float[] query, int maxResults, int ef, Predicate<String> accept) {
+        String entryPoint = metadata.get(ENTRY_POINT_KEY);
+        if (entryPoint == null) {
+            return List.of();
+        }
+
+        Match current = new Match(entryPoint, similarity(query, entryPoint));
+        for (int l = levels.get(entryPoint); l > 0; l--) {
+            current = searchGreedy(query, current, l);
+        }
+        List<Match> result = searchLevel(query, List.of(current), Math.max(ef, maxResults), 0, accept);
+        return result.subList(0, Math.min(result.size(), maxResults));
+    }
+
+    private Match searchGreedy(float[] query, Match start, int level) {
+        Match current = start;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (String neighbour : getNeighbours(current.id(), level)) {
+                double similarity = similarity(query, neighbour);
+                if (similarity > current.similarity()) {
+                    current = new Match(neighbour, similarity);
+                    changed = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * @return the accepted nodes found, the most similar first
+     */
+    private List<Match> searchLevel(float[] query, List<Match> entryPoints, int ef, int level, Predicate<String> accept) {
+        Set<String> visited = new HashSet<>();
+        PriorityQueue<Match> candidates = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        PriorityQueue<Match> results = new PriorityQueue<>(BY_SIMILARITY);
+        for (Match entryPoint : entryPoints) {
+            if (visited.add(entryPoint.id())) {
+                candidates.add(entryPoint);
+                if (accept.test(entryPoint.id())) {
+                    addResult(results, entryPoint, ef);
+                }
+            }
+        }
+
+        while (!candidates.isEmpty()) {
+            Match candidate = candidates.poll();
+            if (results.size() >= ef && candidate.similarity() < results.peek().similarity()) {
+                break;
+            }
+            for (String neighbour : getNeighbours(candidate.id(), level)) {
+                if (!visited.add(neighbour)) {
+                    continue;
+                }
+                double similarity = similarity(query, neighbour);
+                if (Double.isNaN(similarity)) {
+                    continue;
+                }
+                if (results.size() < ef || similarity > results.peek().similarity()) {
+                    Match match = new Match(neighbour, similarity);
+                    candidates.add(match);
+                    if (accept.test(neighbour)) {
+                        addResult(results, match, ef);
+                    }
+                }
+            }
+        }
+
+        List<Match> result = new ArrayList<>(results);
+        result.sort(BY_SIMILARITY.reversed());
+        return result;
+    }
+
+    private static void addResult(PriorityQueue<Match> results, Match match, int ef) {
+        results.add(match);
+        if (results.size() > ef) {
+            results.poll();
+        }
+    }
+
+    private void connect(String node, String newNeighbour, int level) {
+        String[] current = getNeighbours(node, level);
+        if (current.length < maxNeighbours(level)) {
+            String[] updated = new String[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = newNeighbour;
+            neighbours.put(key(node, level), updated);
+        } else {
+            Set<String> candidates = new LinkedHashSet<>(List.of(current));
+            candidates.add(newNeighbour);
+            neighbours.put(key(node, level), selectNeighbours(node, candidates, level));
+        }
+    }
+
+    /**
+     * Keeps the most similar candidates which are still part of the graph
+     */
+    private String[] selectNeighbours(String node, Set<String> candidates, int level) {
+        float[] vector = vectors.apply(node);
+        if (vector == null) {
+            return NO_NEIGHBOURS;
+        }
+        return candidates.stream()
+                         .filter(levels::containsKey)
+                         .map(candidate -> new Match(candidate, similarity(vector, candidate)))
+                         .filter(match -> !Double.isNaN(match.similarity()))
+                         .sorted(BY_SIMILARITY.reversed())
+                         .limit(maxNeighbours(level))
+                         .map(Match::id)
+                         .toArray(String[]::new);
+    }
+
+    private String[] getNeighbours(String id, int level) {
+        String[] result = neighbours.get(key(id, level));
+        return result == null ? NO_NEIGHBOURS : result;
+    }
+
+    /**
+     * @return the cosine similarity, or {@link Double#NaN} if the node was removed in the meantime
+     */
+    private double similarity(float[] query, String id) {
+        float[] vector = vectors.apply(id);
+        if (vector == null) {
+            return Double.NaN;
+        }
+        return cosineSimilarity(query, vector);
+    }
+
+    static double cosineSimilarity(float[] a, float[] b) {
+        double dot = 0;
+        double normA = 0;
+        double normB = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+            normA += a[i] * a[i];
+            normB += b[i] * b[i];
+        }
+        return dot / Math.max(Math.sqrt(normA * normB), Double.MIN_VALUE);
+    }
+
+    private static int maxNeighbours(int level) {
+        return level == 0 ? MAX_NEIGHBOURS_LOWEST_LEVEL : MAX_NEIGHBOURS;
+    }
+
+    private static String key(String id, int level) {
+        return id + '/' + level;
+    }
+}
@@ -1,16 +1,19 @@
 package org.jabref.logic.ai.ingestion;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.PriorityQueue;
+import java.util.Set;
 import java.util.UUID;
-import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -18,6 +21,7 @@ import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.NotificationService;
 
+import com.google.common.annotations.VisibleForTesting;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
@@ -31,7 +35,13 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.h2.mvstore.WriteBuffer;
+import org.h2.mvstore.type.BasicDataType;
+import org.h2.mvstore.type.StringDataType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
@@ -42,19 +52,113 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
  * <p>
+ * The vectors and the segments (file and content) are stored in separate maps with compact binary {@link org.h2.mvstore.type.DataType data types},
+ * so that comparing the query with many vectors does not read the texts.
+ * Stores written by older versions of JabRef, which kept Java-serialized records in one map, are migrated when opened.
+ * <p>
+ * Next to the embeddings, two indexes are kept in the same {@link MVStore}:
+ * <ul>
+ *     <li>the ids of the embeddings of each file, so that the filters by file are lookups</li>
+ *     <li>a {@link HnswIndex HNSW graph}, so that searching in many embeddings does not need to compare the query with all of them</li>
+ * </ul>
+ * Small sets of embeddings are still searched exhaustively, as this is exact and fast enough.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
+    /**
+     * How the vectors are stored. {@link #INT8} needs a quarter of the space, but the vectors lose precision.
+     */
+    public enum VectorEncoding {
+        FLOAT32,
+        INT8
+    }
+
+    // Format of older versions of JabRef, only read for the migration.
     // `file` field is nullable, because {@link Optional} can't be serialized.
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable { }
 
-    private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private record EmbeddingSegment(@Nullable String file, String content) { }
+
+    private record ScoredVector(String id, double score, float[] vector) { }
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreEmbeddingStore.class);
+
+    private static final String LEGACY_EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String VECTORS_MAP_NAME = "embeddingVectors";
+    private static final String SEGMENTS_MAP_NAME = "embeddingSegments";
+    private static final String FILE_INDEX_MAP_NAME = "embeddingsByFile";
+    private static final String VECTOR_INDEX_NAME = "embeddingsGraph";
+
+    /**
+     * Up to this number of embeddings to consider, the search compares the query with each of them
+     */
+    @VisibleForTesting
+    static final int EXHAUSTIVE_SEARCH_LIMIT = 5_000;
+    private static final int EF_SEARCH = 100;
+
+    private static final char FILE_INDEX_SEPARATOR = '\u0000';
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    private final MVMap<String, float[]> vectorsMap;
+    private final MVMap<String, EmbeddingSegment> segmentsMap;
+    // file + FILE_INDEX_SEPARATOR + id -> true
+    private final MVMap<String, Boolean> fileIndex;
+    private final HnswIndex vectorIndex;
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
+        this(path, dialogService, VectorEncoding.FLOAT32);
+    }
+
+    /**
+     * @param vectorEncoding the encoding of newly stored vectors. Vectors stored with the other encoding can still be read.
+     */
+    public MVStoreEmbeddingStore(Path path, NotificationService dialogService, VectorEncoding vectorEncoding) {
         super(path, dialogService);
 
-        this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.vectorsMap = this.mvStore.openMap(VECTORS_MAP_NAME, new MVMap.Builder<String, float[]>()
+                .keyType(StringDataType.INSTANCE)
+                .valueType(new EmbeddingVectorDataType(vectorEncoding)));
+        this.segmentsMap = this.mvStore.openMap(SEGMENTS_MAP_NAME, new MVMap.Builder<String, EmbeddingSegment>()
+                .keyType(StringDataType.INSTANCE)
+                .valueType(new EmbeddingSegmentDataType()));
+        this.fileIndex = this.mvStore.openMap(FILE_INDEX_MAP_NAME);
+        this.vectorIndex = new HnswIndex(this.mvStore, VECTOR_INDEX_NAME, vectorsMap::get);
+
+        if (this.mvStore.hasMap(LEGACY_EMBEDDINGS_MAP_NAME)) {
+            migrateLegacyEmbeddings();
+        }
+
+        // Embeddings stored by an older version of JabRef are not indexed yet
+        if (vectorIndex.size() != vectorsMap.size()) {
+            rebuildIndexes();
+        }
+    }
+
+    private void migrateLegacyEmbeddings() {
+        MVMap<String, EmbeddingRecord> legacyEmbeddingsMap = this.mvStore.openMap(LEGACY_EMBEDDINGS_MAP_NAME);
+        LOGGER.info("Migrating {} embeddings to the new storage format", legacyEmbeddingsMap.size());
+        legacyEmbeddingsMap.forEach((id, eRecord) -> {
+            vectorsMap.put(id, eRecord.embeddingVector);
+            segmentsMap.put(id, new EmbeddingSegment(eRecord.file, eRecord.content));
+        });
+        this.mvStore.removeMap(legacyEmbeddingsMap);
+        commit();
+    }
+
+    private void rebuildIndexes() {
+        LOGGER.info("Rebuilding the index of {} embeddings", vectorsMap.size());
+        fileIndex.clear();
+        vectorIndex.clear();
+        segmentsMap.forEach((id, segment) -> addToIndexes(id, segment.file, vectorsMap.get(id)));
+    }
+
+    private void addToIndexes(String id, @Nullable String file, float[] vector) {
+        if (file != null) {
+            fileIndex.put(fileIndexKey(file, id), true);
+        }
+        vectorIndex.add(id, vector);
+    }
+
+    private static String fileIndexKey(String file, String id) {
+        return file + FILE_INDEX_SEPARATOR + id;
     }
 
     @Override
@@ -76,14 +180,21 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, null, "", embedding.vector());
+    }
+
+    private void put(String id, @Nullable String file, String content, float[] vector) {
+        remove(id);
+        vectorsMap.put(id, vector);
+        segmentsMap.put(id, new EmbeddingSegment(file, content));
+        addToIndexes(id, file, vector);
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, linkedFile, textSegment.text(), embedding.vector());
         return id;
     }
 
@@ -94,7 +205,12 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void remove(String id) {
-        embeddingsMap.remove(id);
+        vectorIndex.remove(id);
+        vectorsMap.remove(id);
+        EmbeddingSegment segment = segmentsMap.remove(id);
+        if (segment != null && segment.file != null) {
+            fileIndex.remove(fileIndexKey(segment.file, id));
+        }
     }
 
     @Override
@@ -105,7 +221,10 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void removeAll() {
-        embeddingsMap.clear();
+        vectorsMap.clear();
+        segmentsMap.clear();
+        fileIndex.clear();
+        vectorIndex.clear();
     }
 
     /**
@@ -122,25 +241,34 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
         // Source: {@link InMemoryEmbeddingStore}.
 
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
+        Comparator<ScoredVector> comparator = comparingDouble(ScoredVector::score);
+        PriorityQueue<ScoredVector> matches = new PriorityQueue<>(comparator);
+
+        Set<String> ids = applyFilter(request.filter()).collect(Collectors.toSet());
+        Collection<String> idsToCompare = ids;
+        if (ids.size() > EXHAUSTIVE_SEARCH_LIMIT) {
+            List<String> candidates = vectorIndex.search(request.queryEmbedding().vector(), request.maxResults(), EF_SEARCH, ids::contains)
+                                                 .stream()
+                                                 .map(HnswIndex.Match::id)
+                                                 .toList();
+            // The approximate search may miss segments passing a selective filter (e.g., of a single file), then the filtered segments are compared exhaustively
+            if (candidates.size() >= Math.min(request.maxResults(), ids.size())) {
+                idsToCompare = candidates;
+            }
+        }
 
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
+        idsToCompare.forEach(id -> {
+            float[] vector = vectorsMap.get(id);
+            if (vector == null) {
+                // Removed in the meantime
+                return;
+            }
 
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
+            double cosineSimilarity = CosineSimilarity.between(Embedding.from(vector), request.queryEmbedding());
             double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
 
             if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
+                matches.add(new ScoredVector(id, score, vector));
 
                 if (matches.size() > request.maxResults()) {
                     matches.poll();
@@ -148,33 +276,84 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
             }
         });
 
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
-        result.sort(comparator.reversed());
+        // Only the texts of the best matches are read
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+        matches.stream().sorted(comparator.reversed()).forEach(match -> {
+            EmbeddingSegment segment = segmentsMap.get(match.id());
+            if (segment != null) {
+                result.add(new EmbeddingMatch<>(
+                        match.score(),
+                        match.id(),
+                        Embedding.from(match.vector()),
+                        new TextSegment(
+                                segment.content,
+                                new Metadata(
+                                        segment.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, segment.file)))));
+            }
+        });
 
         return new EmbeddingSearchResult<>(result);
     }
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        List<String> idsToRemove = new ArrayList<>(ids);
+        idsToRemove.forEach(this::remove);
     }
 
     private Stream<String> applyFilter(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> vectorsMap.keySet().stream();
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    isInFilter.comparisonValues().stream().distinct().flatMap(file -> getIdsOfFile(file.toString()));
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    getIdsOfFile(isEqualToFilter.comparisonValue().toString());
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    private Stream<String> getIdsOfFile(String file) {
+        String prefix = file + FILE_INDEX_SEPARATOR;
+        List<String> ids = new ArrayList<>();
+        Iterator<String> keys = fileIndex.keyIterator(prefix);
+        while (keys.hasNext()) {
+            String key = keys.next();
+            if (!key.startsWith(prefix)) {
+                break;
+            }
+            ids.add(key.substring(prefix.length()));
+        }
+        return ids.stream();
+    }
+
+    private static class EmbeddingSegmentDataType extends BasicDataType<EmbeddingSegment> {
+        @Override
+        public int getMemory(EmbeddingSegment segment) {
+            return 24 + 2 * (segment.content.length() + (segment.file == null ? 0 : segment.file.length()));
+        }
+
+        @Override
+        public void write(WriteBuffer buff, EmbeddingSegment segment) {
+            buff.put((byte) (segment.file == null ? 0 : 1));
+            if (segment.file != null) {
+                StringDataType.INSTANCE.write(buff, segment.file);
+            }
+            StringDataType.INSTANCE.write(buff, segment.content);
+        }
+
+        @Override
+        public EmbeddingSegment read(ByteBuffer buff) {
+            String file = buff.get() == 0 ? null : StringDataType.INSTANCE.read(buff);
+            return new EmbeddingSegment(file, StringDataType.INSTANCE.read(buff));
+        }
+
+        @Override
+        public EmbeddingSegment[] createStorage(int size) {
+            return new EmbeddingSegment[size];
+        }
     }
 
     @Override
@@ -1,8 +1,12 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -82,20 +86,22 @@ public class BibDatabaseDiff {
         // Loop through the entries of the original database, looking for exact matches in the new one.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
-        mainLoop:
+        // Exact matches have the same strict comparison key, thus we look them up instead of comparing all pairs.
+        Map<String, Deque<Integer>> newEntriesByKey = new HashMap<>(newEntries.size());
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntriesByKey.computeIfAbsent(DuplicateCheck.getStrictComparisonKey(newEntries.get(i)), key -> new ArrayDeque<>()).add(i);
+        }
         for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
-                }
+            // Take the first unmatched exact match, as the pairwise comparison did
+            Integer match = Optional.ofNullable(newEntriesByKey.get(DuplicateCheck.getStrictComparisonKey(originalEntry)))
+                                    .map(Deque::poll)
+                                    .orElse(null);
+            if (match != null) {
+                matchedEntries.add(match);
+            } else {
+                // No? Add this entry to the list of non-matched entries.
+                notMatched.add(originalEntry);
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
 
         // Now we've found all exact matches, look through the remaining entries, looking for close matches.
@@ -0,0 +1,175 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.jabref.model.entry.Author;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Generates the candidates for {@link DuplicateCheck#isDuplicate}, so that not all pairs of entries need to be compared.
+ * <p>
+ * Entries are grouped by blocking keys. Two entries are candidates if they share at least one key:
+ * <ul>
+ *     <li>a normalized identifier (e.g., DOI, ISBN)</li>
+ *     <li>the entry type together with one band of the MinHash signature of the character trigrams of the title</li>
+ *     <li>the entry type together with the family name of the first author (or editor) and the year</li>
+ *     <li>the entry type, if the entry has neither a title nor an author or editor</li>
+ * </ul>
+ * Entries of different types only share identifier keys, because {@link DuplicateCheck} considers them duplicates only if they have the same identifier.
+ * <p>
+ * The candidate generation is approximate: pairs which are considered duplicates only because of fields other than identifiers, title, author, and year are not found.
+ */
+public class DuplicateCandidateIndex {
+    private static final int MINHASH_BANDS = 8;
+    private static final int MINHASH_ROWS_PER_BAND = 4;
+    private static final int[] MINHASH_SEEDS = new int[MINHASH_BANDS * MINHASH_ROWS_PER_BAND];
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    static {
+        for (int i = 0; i < MINHASH_SEEDS.length; i++) {
+            MINHASH_SEEDS[i] = mix(0x9E3779B9 * (i + 1));
+        }
+    }
+
+    private final List<BibEntry> entries;
+    private final Map<String, List<Integer>> entriesByKey = new HashMap<>();
+
+    public DuplicateCandidateIndex(List<BibEntry> entries) {
+        this.entries = List.copyOf(entries);
+        for (int i = 0; i < this.entries.size(); i++) {
+            for (String key : getKeys(this.entries.get(i))) {
+                entriesByKey.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+    }
+
+    /**
+     * @return the indexed entries which might be duplicates of the given entry, in the order they were indexed. The entry itself is not included.
+     */
+    public List<BibEntry> getCandidates(BibEntry entry) {
+        return getCandidates(getKeys(entry), 0).stream()
+                                               .mapToObj(entries::get)
+                                               .filter(candidate -> candidate != entry)
+                                               .toList();
+    }
+
+    /**
+     * Used to visit each candidate pair of the indexed entries exactly once.
+     *
+     * @param index the position of an indexed entry
+     * @return the indexed entries after the given position which might be duplicates of the entry at the given position, in the order they were indexed
+     */
+    public List<BibEntry> getCandidatesAfter(int index) {
+        return getCandidates(getKeys(entries.get(index)), index + 1).stream()
+                                                                     .mapToObj(entries::get)
+                                                                     .toList();
+    }
+
+    private BitSet getCandidates(Set<String> keys, int fromIndex) {
+        BitSet candidates = new BitSet(entries.size());
+        for (String key : keys) {
+            List<Integer> block = entriesByKey.get(key);
+            if (block != null) {
+                block.stream().filter(i -> i >= fromIndex).forEach(candidates::set);
+            }
+        }
+        return candidates;
+    }
+
+    static Set<String> getKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).map(DuplicateCandidateIndex::normalizeIdentifier)
+                     .filter(value -> !value.isEmpty())
+                     .ifPresent(value -> keys.add("id:" + field.getName() + ":" + value));
+            }
+        }
+        entry.getField(StandardField.ISBN).map(DuplicateCandidateIndex::normalizeIdentifier)
+             .filter(value -> !value.isEmpty())
+             .ifPresent(value -> keys.add("isbn:" + value));
+
+        String type = entry.getType().getName();
+        Optional<String> title = entry.getFieldLatexFree(StandardField.TITLE)
+                                      .map(DuplicateCandidateIndex::normalizeText)
+                                      .filter(value -> !value.isEmpty());
+        title.ifPresent(value -> addTitleKeys(keys, type, value));
+
+        Optional<String> firstAuthor = entry.getFieldLatexFree(StandardField.AUTHOR)
+                                            .or(() -> entry.getFieldLatexFree(StandardField.EDITOR))
+                                            .flatMap(DuplicateCandidateIndex::getFirstFamilyName);
+        String year = entry.getFieldOrAlias(StandardField.YEAR).map(String::trim).orElse("");
+        firstAuthor.ifPresent(author -> keys.add(type + ":author-year:" + author + ":" + year));
+
+        if (title.isEmpty() && firstAuthor.isEmpty()) {
+            keys.add(type + ":untitled");
+        }
+        return keys;
+    }
+
+    private static void addTitleKeys(Set<String> keys, String type, String title) {
+        if (title.length() < 3) {
+            keys.add(type + ":title:" + title);
+            return;
+        }
+        int[] signature = new int[MINHASH_SEEDS.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int i = 0; i + 3 <= title.length(); i++) {
+            int trigramHash = title.substring(i, i + 3).hashCode();
+            for (int k = 0; k < MINHASH_SEEDS.length; k++) {
+                signature[k] = Math.min(signature[k], mix(trigramHash ^ MINHASH_SEEDS[k]));
+            }
+        }
+        for (int band = 0; band < MINHASH_BANDS; band++) {
+            StringBuilder key = new StringBuilder(type).append(":title-band").append(band);
+            for (int row = 0; row < MINHASH_ROWS_PER_BAND; row++) {
+                key.append(':').append(signature[band * MINHASH_ROWS_PER_BAND + row]);
+            }
+            keys.add(key.toString());
+        }
+    }
+
+    private static Optional<String> getFirstFamilyName(String names) {
+        List<Author> authors = AuthorList.parse(names).getAuthors();
+        if (authors.isEmpty()) {
+            return Optional.empty();
+        }
+        return authors.getFirst().getFamilyName()
+                      .map(DuplicateCandidateIndex::normalizeText)
+                      .filter(value -> !value.isEmpty());
+    }
+
+    private static String normalizeIdentifier(String value) {
+        return value.trim().toLowerCase(Locale.ROOT).replaceAll("[\\s-]", "");
+    }
+
+    private static String normalizeText(String value) {
+        return NON_ALPHANUMERIC.matcher(value.toLowerCase(Locale.ROOT)).replaceAll(" ").trim();
+    }
+
+    /**
+     * Finalization step of MurmurHash3, used to derive independent hash functions from one hash code
+     */
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+}
@@ -1,6 +1,7 @@
 package org.jabref.logic.database;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
@@ -33,6 +34,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class contains utility method for duplicate checking of entries.
+ * Instances do not have mutable state and can be used by several threads.
  */
 public class DuplicateCheck {
     private static final double DUPLICATE_THRESHOLD = 0.75; // The overall threshold to signal a duplicate pair
@@ -253,6 +255,21 @@ public class DuplicateCheck {
         return (double) score / allFields.size();
     }
 
+    /**
+     * Two entries have the same strict comparison key if and only if {@link #compareEntriesStrictly(BibEntry, BibEntry)} returns a score greater than 1.
+     * This allows finding exact matches by hashing instead of comparing all pairs of entries.
+     */
+    public static String getStrictComparisonKey(BibEntry entry) {
+        StringBuilder key = new StringBuilder();
+        entry.getFields().stream()
+             .sorted(Comparator.comparing(Field::getName))
+             .forEach(field -> key.append(field.getName())
+                                  .append('\u0000')
+                                  .append(StringUtil.unifyLineBreaks(entry.getField(field).orElse(""), OS.NEWLINE))
+                                  .append('\u0001'));
+        return key.toString();
+    }
+
     private static boolean isSingleFieldEqual(BibEntry one, BibEntry two, Field field) {
         final Optional<String> stringOne = one.getField(field);
         final Optional<String> stringTwo = two.getField(field);
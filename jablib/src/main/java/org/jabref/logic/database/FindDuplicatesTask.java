@@ -0,0 +1,153 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+
+import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Searches for pairs of duplicate entries using all processor cores.
+ * <p>
+ * The entries are split into ranges which are processed by a {@link ForkJoinPool}.
+ * For each entry of a range, the {@link DuplicateCandidateIndex#getCandidatesAfter(int) candidates after it} are checked, so that each pair is checked once.
+ * A pair is added to the given queue as soon as it is found, thus the queue can be consumed while the search is running.
+ * The order of the found pairs is not deterministic.
+ * <p>
+ * The workers only count the processed entries and found pairs. The progress and the {@link #duplicateCountProperty() duplicate count}
+ * are published by the thread calling {@link #call()}, which polls the counters while waiting for the workers.
+ */
+public class FindDuplicatesTask extends BackgroundTask<Integer> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FindDuplicatesTask.class);
+
+    /**
+     * Number of entries a worker processes without further splitting its range
+     */
+    private static final int ENTRIES_PER_WORKER_TASK = 64;
+
+    private static final long PUBLISH_INTERVAL_MILLIS = 100;
+
+    private final List<BibEntry> entries;
+    private final BibDatabaseMode databaseMode;
+    private final BlockingQueue<List<BibEntry>> duplicates;
+    // DuplicateCheck has no mutable state, thus it is shared by all workers
+    private final DuplicateCheck duplicateCheck;
+    private final AtomicInteger processedEntries = new AtomicInteger();
+    private final AtomicInteger foundDuplicates = new AtomicInteger();
+    private final ReadOnlyIntegerWrapper duplicateCount = new ReadOnlyIntegerWrapper(0);
+
+    public FindDuplicatesTask(List<BibEntry> entries,
+                              BibDatabaseMode databaseMode,
+                              BibEntryTypesManager entryTypesManager,
+                              BlockingQueue<List<BibEntry>> duplicates) {
+        this.entries = List.copyOf(entries);
+        this.databaseMode = databaseMode;
+        this.duplicates = duplicates;
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+
+        setTitle(Localization.lang("Searching for duplicates..."));
+    }
+
+    /**
+     * @return the number of found pairs of duplicates
+     */
+    @Override
+    public Integer call() {
+        DuplicateCandidateIndex candidateIndex = new DuplicateCandidateIndex(entries);
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            ForkJoinTask<Void> search = pool.submit(new FindDuplicatesAction(candidateIndex, 0, entries.size()));
+            while (!search.isDone()) {
+                publishProgress();
+                try {
+                    search.get(PUBLISH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (TimeoutException | ExecutionException e) {
+                    // Either still running or failed; in the latter case, join below rethrows the failure
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    // The workers stop at their next check, join below waits for them
+                    cancel();
+                    break;
+                }
+            }
+            search.join();
+        } finally {
+            pool.shutdownNow();
+        }
+        publishProgress();
+        LOGGER.debug("Found {} pairs of duplicates in {} entries", getDuplicateCount(), entries.size());
+        return getDuplicateCount();
+    }
+
+    public ReadOnlyIntegerProperty duplicateCountProperty() {
+        return duplicateCount.getReadOnlyProperty();
+    }
+
+    public int getDuplicateCount() {
+        return foundDuplicates.get();
+    }
+
+    private void foundDuplicate(BibEntry first, BibEntry second) {
+        duplicates.add(List.of(first, second));
+        foundDuplicates.incrementAndGet();
+    }
+
+    private void publishProgress() {
+        updateProgress(processedEntries.get(), entries.size());
+        duplicateCount.set(foundDuplicates.get());
+    }
+
+    private class FindDuplicatesAction extends RecursiveAction {
+        private final DuplicateCandidateIndex candidateIndex;
+        private final int from;
+        private final int to;
+
+        FindDuplicatesAction(DuplicateCandidateIndex candidateIndex, int from, int to) {
+            this.candidateIndex = candidateIndex;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (FindDuplicatesTask.this.isCancelled()) {
+                return;
+            }
+            if (to - from > ENTRIES_PER_WORKER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new FindDuplicatesAction(candidateIndex, from, middle),
+                        new FindDuplicatesAction(candidateIndex, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                if (FindDuplicatesTask.this.isCancelled()) {
+                    return;
+                }
+                BibEntry first = entries.get(i);
+                for (BibEntry second : candidateIndex.getCandidatesAfter(i)) {
+                    if (duplicateCheck.isDuplicate(first, second, databaseMode)) {
+                        foundDuplicate(first, second);
+                    }
+                }
+            }
+            processedEntries.addAndGet(to - from);
+        }
+    }
+}
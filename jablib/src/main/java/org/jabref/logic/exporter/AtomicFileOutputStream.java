@@ -4,8 +4,11 @@ import java.io.FileOutputStream;
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.channels.OverlappingFileLockException;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
@@ -72,6 +75,11 @@ public class AtomicFileOutputStream extends FilterOutputStream {
 
     private boolean errorDuringWrite = false;
 
+    /**
+     * The number of bytes written to the temporary file
+     */
+    private long position = 0;
+
     /**
      * Creates a new output stream to write to or replace the file at the specified path.
      *
@@ -136,6 +144,27 @@ public class AtomicFileOutputStream extends FilterOutputStream {
         return backupFile;
     }
 
+    /**
+     * Returns the path of the file to create or replace
+     */
+    public Path getTargetFile() {
+        return targetFile;
+    }
+
+    /**
+     * Returns the path of the temporary file, which replaces the target file when this stream is closed
+     */
+    public Path getTemporaryFile() {
+        return temporaryFile;
+    }
+
+    /**
+     * Returns the number of bytes written so far
+     */
+    public long getPosition() {
+        return position;
+    }
+
     /**
      * Overridden because of cleanup actions in case of an error
      */
@@ -143,6 +172,29 @@ public class AtomicFileOutputStream extends FilterOutputStream {
     public void write(byte b[], int off, int len) throws IOException {
         try {
             out.write(b, off, len);
+            position += len;
+        } catch (IOException exception) {
+            cleanup();
+            errorDuringWrite = true;
+            throw exception;
+        }
+    }
+
+    /**
+     * Writes the given range of the given file. If possible, the bytes are copied by the operating system without reading them into memory.
+     */
+    public void transferFrom(FileChannel source, long sourcePosition, long count) throws IOException {
+        try {
+            WritableByteChannel target = out instanceof FileOutputStream stream ? stream.getChannel() : Channels.newChannel(out);
+            long transferred = 0;
+            while (transferred < count) {
+                long bytes = source.transferTo(sourcePosition + transferred, count - transferred, target);
+                if (bytes <= 0) {
+                    throw new IOException("Could not copy bytes %d to %d of the previously saved file".formatted(sourcePosition, sourcePosition + count));
+                }
+                transferred += bytes;
+            }
+            position += count;
         } catch (IOException exception) {
             cleanup();
             errorDuringWrite = true;
@@ -2,6 +2,7 @@ package org.jabref.logic.exporter;
 
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
 import java.nio.file.Path;
@@ -18,6 +19,7 @@ import java.util.TreeSet;
  */
 public class AtomicFileWriter extends OutputStreamWriter {
 
+    private final AtomicFileOutputStream outputStream;
     private final CharsetEncoder encoder;
     private final Set<Character> problemCharacters = new TreeSet<>();
 
@@ -26,7 +28,12 @@ public class AtomicFileWriter extends OutputStreamWriter {
     }
 
     public AtomicFileWriter(Path file, Charset encoding, boolean keepBackup) throws IOException {
-        super(new AtomicFileOutputStream(file, keepBackup), encoding);
+        this(new AtomicFileOutputStream(file, keepBackup), encoding);
+    }
+
+    private AtomicFileWriter(AtomicFileOutputStream outputStream, Charset encoding) {
+        super(outputStream, encoding);
+        this.outputStream = outputStream;
         encoder = encoding.newEncoder();
     }
 
@@ -43,6 +50,34 @@ public class AtomicFileWriter extends OutputStreamWriter {
         }
     }
 
+    /**
+     * Returns the number of bytes written so far. All characters written before are encoded and written to the file.
+     */
+    public long getPosition() throws IOException {
+        flush();
+        return outputStream.getPosition();
+    }
+
+    /**
+     * Writes the given range of bytes of the given file. The bytes are expected to be in the encoding of this writer.
+     */
+    public void transferFrom(FileChannel source, long sourcePosition, long count) throws IOException {
+        flush();
+        outputStream.transferFrom(source, sourcePosition, count);
+    }
+
+    public Charset getCharset() {
+        return encoder.charset();
+    }
+
+    public Path getTargetFile() {
+        return outputStream.getTargetFile();
+    }
+
+    public Path getTemporaryFile() {
+        return outputStream.getTemporaryFile();
+    }
+
     public boolean hasEncodingProblems() {
         return !problemCharacters.isEmpty();
     }
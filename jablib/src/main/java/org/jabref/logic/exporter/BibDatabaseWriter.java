@@ -1,8 +1,11 @@
 package org.jabref.logic.exporter;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -11,6 +14,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
@@ -154,11 +158,64 @@ public abstract class BibDatabaseWriter {
      * Saves the complete database.
      */
     public void saveDatabase(BibDatabaseContext bibDatabaseContext) throws IOException {
-        List<BibEntry> entries = bibDatabaseContext.getDatabase().getEntries()
-                                                .stream()
-                                                .filter(entry -> !entry.isEmpty())
-                                                .toList();
-        savePartOfDatabase(bibDatabaseContext, entries);
+        savePartOfDatabase(bibDatabaseContext, getNonEmptyEntries(bibDatabaseContext));
+    }
+
+    /**
+     * Saves the complete database like {@link #saveDatabase(BibDatabaseContext)}, but writes only the entries changed since the
+     * previous save. The other entries are copied from the file written by the previous save, without sorting and cleaning them up again.
+     * If the file, the save order, or anything else besides the entries changed since the previous save, all entries are written.
+     *
+     * @param saveState  the state of the previous save of the database, which is updated by this save
+     * @param fileWriter the writer the {@link BibWriter} of this database writer writes to
+     */
+    public void saveDatabase(BibDatabaseContext bibDatabaseContext, IncrementalSaveState saveState, AtomicFileWriter fileWriter) throws IOException {
+        Set<BibEntry> changedEntries = saveState.startSave();
+        try {
+            IncrementalSaveState.Settings settings = new IncrementalSaveState.Settings(
+                    fileWriter.getTargetFile(),
+                    fileWriter.getCharset(),
+                    bibDatabaseContext.getDatabase().getNewLineSeparator(),
+                    saveConfiguration.getSelfContainedSaveOrder(),
+                    saveConfiguration.getSaveType(),
+                    saveConfiguration.shouldReformatFile(),
+                    keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving(),
+                    bibDatabaseContext.getMode(),
+                    MetaDataSerializer.getSerializedStringMap(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns()));
+            FieldComparatorStack<BibEntry> saveOrderComparator = new FieldComparatorStack<>(getSaveComparators(saveConfiguration.getSelfContainedSaveOrder()));
+            Optional<List<BibEntry>> entriesToSave = saveState.getEntriesToSave(settings, changedEntries, saveOrderComparator);
+
+            List<IncrementalSaveState.EntryPosition> positions;
+            if (entriesToSave.isPresent()) {
+                writeHeader(bibDatabaseContext);
+                cleanUpEntries(bibDatabaseContext, entriesToSave.get().stream().filter(changedEntries::contains).toList());
+                try (FileChannel previousFile = FileChannel.open(settings.file(), StandardOpenOption.READ)) {
+                    positions = writeEntries(bibDatabaseContext, entriesToSave.get(), fileWriter, entry -> {
+                        if (changedEntries.contains(entry)) {
+                            return false;
+                        }
+                        Optional<IncrementalSaveState.EntryPosition> previousPosition = saveState.getPosition(entry);
+                        if (previousPosition.isEmpty()) {
+                            return false;
+                        }
+                        fileWriter.transferFrom(previousFile, previousPosition.get().start(), previousPosition.get().end() - previousPosition.get().start());
+                        bibWriter.finishCopiedBlock();
+                        return true;
+                    });
+                }
+            } else {
+                List<BibEntry> sortedEntries = getSortedEntries(getNonEmptyEntries(bibDatabaseContext), saveConfiguration.getSelfContainedSaveOrder());
+                writeHeader(bibDatabaseContext);
+                cleanUpEntries(bibDatabaseContext, sortedEntries);
+                positions = writeEntries(bibDatabaseContext, sortedEntries, fileWriter, _ -> false);
+            }
+
+            long fileSize = fileWriter.getPosition();
+            saveState.saved(settings, positions, fileSize, Files.getLastModifiedTime(fileWriter.getTemporaryFile()));
+        } catch (IOException | RuntimeException e) {
+            saveState.invalidate();
+            throw e;
+        }
     }
 
     /**
@@ -167,6 +224,34 @@ public abstract class BibDatabaseWriter {
      * @param entries A list of entries to save. The list itself is not modified in this code
      */
     public void savePartOfDatabase(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) throws IOException {
+        writeHeader(bibDatabaseContext);
+
+        // Write database entries.
+        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
+        cleanUpEntries(bibDatabaseContext, sortedEntries);
+
+        // Map to collect entry type definitions that we must save along with entries using them.
+        SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
+
+        for (BibEntry entry : sortedEntries) {
+            collectEntryType(bibDatabaseContext, entry, typesToWrite);
+            writeEntry(entry, bibDatabaseContext.getMode());
+        }
+
+        writeFooter(bibDatabaseContext, typesToWrite);
+    }
+
+    private static List<BibEntry> getNonEmptyEntries(BibDatabaseContext bibDatabaseContext) {
+        return bibDatabaseContext.getDatabase().getEntries()
+                                 .stream()
+                                 .filter(entry -> !entry.isEmpty())
+                                 .toList();
+    }
+
+    /**
+     * Writes everything in front of the entries: the database ID, the prolog, the preamble, and the strings
+     */
+    private void writeHeader(BibDatabaseContext bibDatabaseContext) throws IOException {
         Optional<String> sharedDatabaseIDOptional = bibDatabaseContext.getDatabase().getSharedDatabaseID();
         sharedDatabaseIDOptional.ifPresent(Unchecked.consumer(this::writeDatabaseID));
 
@@ -183,35 +268,68 @@ public abstract class BibDatabaseWriter {
 
         // Write strings if there are any.
         writeStrings(bibDatabaseContext.getDatabase());
+    }
 
-        // Write database entries.
-        List<BibEntry> sortedEntries = getSortedEntries(entries, saveConfiguration.getSelfContainedSaveOrder());
-
+    /**
+     * Applies the save actions to the given entries and generates missing citation keys
+     */
+    private void cleanUpEntries(BibDatabaseContext bibDatabaseContext, List<BibEntry> entries) {
         // FIXME: "Clean" architecture violation: We modify the entries here, which should not happen during a write
         //        The cleanup should be done before the write operation
-        List<FieldChange> saveActionChanges = applySaveActions(sortedEntries, bibDatabaseContext.getMetaData(), fieldPreferences);
+        List<FieldChange> saveActionChanges = applySaveActions(entries, bibDatabaseContext.getMetaData(), fieldPreferences);
         saveActionsFieldChanges.addAll(saveActionChanges);
         if (keyPatternPreferences.shouldGenerateCiteKeysBeforeSaving()) {
-            List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, sortedEntries);
+            List<FieldChange> keyChanges = generateCitationKeys(bibDatabaseContext, entries);
             saveActionsFieldChanges.addAll(keyChanges);
         }
+    }
 
-        // Map to collect entry type definitions that we must save along with entries using them.
+    /**
+     * Writes the given entries, the metadata, and the epilog. Records the position of each entry in the file.
+     *
+     * @param copyEntry copies the given entry from the previously saved file and returns true, or returns false if the entry has to be written
+     */
+    private List<IncrementalSaveState.EntryPosition> writeEntries(BibDatabaseContext bibDatabaseContext,
+                                                                  List<BibEntry> sortedEntries,
+                                                                  AtomicFileWriter fileWriter,
+                                                                  EntryCopier copyEntry) throws IOException {
+        List<IncrementalSaveState.EntryPosition> positions = new ArrayList<>(sortedEntries.size());
         SortedSet<BibEntryType> typesToWrite = new TreeSet<>();
-
         for (BibEntry entry : sortedEntries) {
-            // Check if we must write the type definition for this
-            // entry, as well. Our criterion is that all non-standard
-            // types (*not* all customized standard types) must be written.
-            if (entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode())) {
-                // If user-defined entry type, then add it
-                // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
-                entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
+            collectEntryType(bibDatabaseContext, entry, typesToWrite);
+
+            bibWriter.beginBlock();
+            long start = fileWriter.getPosition();
+            if (!copyEntry.copy(entry)) {
+                writeEntry(entry, bibDatabaseContext.getMode());
             }
+            positions.add(new IncrementalSaveState.EntryPosition(entry, start, fileWriter.getPosition()));
+        }
 
-            writeEntry(entry, bibDatabaseContext.getMode());
+        writeFooter(bibDatabaseContext, typesToWrite);
+        return positions;
+    }
+
+    @FunctionalInterface
+    private interface EntryCopier {
+        boolean copy(BibEntry entry) throws IOException;
+    }
+
+    private void collectEntryType(BibDatabaseContext bibDatabaseContext, BibEntry entry, SortedSet<BibEntryType> typesToWrite) {
+        // Check if we must write the type definition for this
+        // entry, as well. Our criterion is that all non-standard
+        // types (*not* all customized standard types) must be written.
+        if (entryTypesManager.isCustomType(entry.getType(), bibDatabaseContext.getMode())) {
+            // If user-defined entry type, then add it
+            // Otherwise (enrich returns empty optional) it is a completely unknown entry type, so ignore it
+            entryTypesManager.enrich(entry.getType(), bibDatabaseContext.getMode()).ifPresent(typesToWrite::add);
         }
+    }
 
+    /**
+     * Writes everything after the entries: the metadata, the entry type definitions, and the epilog
+     */
+    private void writeFooter(BibDatabaseContext bibDatabaseContext, SortedSet<BibEntryType> typesToWrite) throws IOException {
         if (saveConfiguration.getSaveType() == SaveType.WITH_JABREF_META_DATA) {
             // Write meta data.
             writeMetaData(bibDatabaseContext.getMetaData(), keyPatternPreferences.getKeyPatterns());
@@ -30,10 +30,7 @@ public class BibWriter {
      * Writes the given string. The newlines of the given string are converted to the newline set for this class.
      */
     public void write(String string) throws IOException {
-        if (precedingNewLineRequired) {
-            writer.write(newLineSeparator);
-            precedingNewLineRequired = false;
-        }
+        beginBlock();
         string = StringUtil.unifyLineBreaks(string, newLineSeparator);
         writer.write(string);
         currentPosition += string.length();
@@ -72,6 +69,27 @@ public class BibWriter {
         this.precedingNewLineRequired = true;
     }
 
+    /**
+     * Writes the line break separating the previous block from the next one, if it is still pending.
+     * Afterwards, everything written to the underlying writer belongs to the next block.
+     */
+    public void beginBlock() throws IOException {
+        if (precedingNewLineRequired) {
+            writer.write(newLineSeparator);
+            precedingNewLineRequired = false;
+        }
+    }
+
+    /**
+     * Finishes a block which was written to the underlying output without using this class, e.g., by copying it from a file.
+     * The block has to end with a line break.
+     */
+    public void finishCopiedBlock() {
+        this.lastWriteWasNewline = true;
+        this.somethingWasWritten = false;
+        this.precedingNewLineRequired = true;
+    }
+
     public int getCurrentPosition() {
         return currentPosition;
     }
@@ -0,0 +1,174 @@
+package org.jabref.logic.exporter;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.EntriesEvent;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
+
+import com.google.common.eventbus.Subscribe;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Remembers the positions of the entries in the file written by the last save of a library, and the entries changed since then.
+ * This allows {@link BibDatabaseWriter#saveDatabase(BibDatabaseContext, IncrementalSaveState, AtomicFileWriter)} to copy the
+ * unchanged entries from the previously saved file instead of sorting, cleaning up, and writing all entries again.
+ * <p>
+ * There is one instance for each library, which has to be created before the library is modified.
+ */
+public class IncrementalSaveState {
+
+    /**
+     * Everything which influences the content of the saved file besides the entries. If anything of it changes, a full save is required.
+     */
+    record Settings(
+            Path file,
+            Charset encoding,
+            String newLineSeparator,
+            SelfContainedSaveOrder saveOrder,
+            BibDatabaseWriter.SaveType saveType,
+            boolean reformatFile,
+            boolean generateCitationKeys,
+            BibDatabaseMode mode,
+            Map<String, String> serializedMetaData) {
+    }
+
+    /**
+     * The range of bytes of an entry in the saved file
+     */
+    public record EntryPosition(BibEntry entry, long start, long end) {
+    }
+
+    private final BibDatabase database;
+
+    // Identity, because BibEntry#equals compares the content
+    private final Set<BibEntry> changedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    // The state of the last save, null if there was no successful save yet
+    private @Nullable Settings settings;
+    private List<EntryPosition> positions = List.of();
+    private Map<BibEntry, EntryPosition> positionByEntry = Map.of();
+    private long fileSize;
+    private @Nullable FileTime lastModifiedTime;
+
+    public IncrementalSaveState(BibDatabase database) {
+        this.database = database;
+        database.registerListener(this);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesEvent event) {
+        changedEntries.addAll(event.getBibEntries());
+    }
+
+    /**
+     * Returns the entries changed since the last save and starts to collect the changes for the next save.
+     * If the save fails, {@link #invalidate()} has to be called, because the returned changes are not tracked anymore.
+     */
+    synchronized Set<BibEntry> startSave() {
+        Set<BibEntry> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+        entries.addAll(changedEntries);
+        changedEntries.clear();
+        return entries;
+    }
+
+    /**
+     * Determines the entries to save in the order of the file. The unchanged entries keep their order of the last save,
+     * the changed entries are inserted according to the save order.
+     *
+     * @param settings            the settings of the current save
+     * @param changedEntries      the entries changed since the last save
+     * @param saveOrderComparator the comparator of the save order
+     * @return the entries to save, or an empty optional if the unchanged entries cannot be copied from the previously saved file
+     */
+    synchronized Optional<List<BibEntry>> getEntriesToSave(Settings settings, Set<BibEntry> changedEntries, Comparator<BibEntry> saveOrderComparator) throws IOException {
+        if (!settings.equals(this.settings) || !isUnchangedSinceLastSave(settings.file())) {
+            return Optional.empty();
+        }
+
+        List<BibEntry> changedEntriesToSave = changedEntries.stream()
+                                                            .filter(entry -> (database.getEntryById(entry.getId()) == entry) && !entry.isEmpty())
+                                                            .sorted(saveOrderComparator)
+                                                            .toList();
+        List<BibEntry> entries = new ArrayList<>(positions.size() + changedEntriesToSave.size());
+        int changedIndex = 0;
+        for (EntryPosition position : positions) {
+            BibEntry entry = position.entry();
+            if (changedEntries.contains(entry)) {
+                continue;
+            }
+            if (database.getEntryById(entry.getId()) != entry) {
+                // Removed without posting an event
+                return Optional.empty();
+            }
+            while ((changedIndex < changedEntriesToSave.size()) && (saveOrderComparator.compare(changedEntriesToSave.get(changedIndex), entry) < 0)) {
+                entries.add(changedEntriesToSave.get(changedIndex));
+                changedIndex++;
+            }
+            entries.add(entry);
+        }
+        entries.addAll(changedEntriesToSave.subList(changedIndex, changedEntriesToSave.size()));
+
+        long entriesInDatabase = database.getEntries().stream().filter(entry -> !entry.isEmpty()).count();
+        if (entries.size() != entriesInDatabase) {
+            // Added without posting an event
+            return Optional.empty();
+        }
+        return Optional.of(entries);
+    }
+
+    /**
+     * Returns the range of bytes of the given entry in the file written by the last save, if the entry was saved
+     */
+    public synchronized Optional<EntryPosition> getPosition(BibEntry entry) {
+        return Optional.ofNullable(positionByEntry.get(entry));
+    }
+
+    /**
+     * Remembers the result of a successful save
+     *
+     * @param positions        the positions of all saved entries in the order of the file
+     * @param fileSize         the size of the saved file in bytes
+     * @param lastModifiedTime the time of the last modification of the saved file
+     */
+    synchronized void saved(Settings settings, List<EntryPosition> positions, long fileSize, FileTime lastModifiedTime) {
+        this.settings = settings;
+        this.positions = positions;
+        this.positionByEntry = new IdentityHashMap<>(positions.size());
+        for (EntryPosition position : positions) {
+            positionByEntry.put(position.entry(), position);
+        }
+        this.fileSize = fileSize;
+        this.lastModifiedTime = lastModifiedTime;
+    }
+
+    /**
+     * Forgets the last save, e.g., because the current save failed. The next save writes all entries.
+     */
+    synchronized void invalidate() {
+        settings = null;
+        positions = List.of();
+        positionByEntry = Map.of();
+    }
+
+    private boolean isUnchangedSinceLastSave(Path file) throws IOException {
+        return Files.exists(file)
+                && (Files.size(file) == fileSize)
+                && Files.getLastModifiedTime(file).equals(lastModifiedTime);
+    }
+}
@@ -5,6 +5,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -14,16 +17,21 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.journals.JournalAbbreviationLoader;
 import org.jabref.logic.journals.JournalAbbreviationRepository;
 import org.jabref.logic.layout.Layout;
 import org.jabref.logic.layout.LayoutFormatterPreferences;
 import org.jabref.logic.layout.LayoutHelper;
-import org.jabref.logic.layout.format.Number;
+import org.jabref.logic.layout.LayoutRenderContext;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.util.FileType;
 import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.types.EntryType;
@@ -44,9 +52,14 @@ public class TemplateExporter extends Exporter {
     private static final String FORMATTERS_EXTENSION = ".formatters";
     private static final String BEGIN_INFIX = ".begin";
     private static final String END_INFIX = ".end";
+    // Smaller chunks are not worth the overhead of compiling their layouts
+    private static final int MINIMUM_CHUNK_SIZE = 500;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(TemplateExporter.class);
 
+    // The layout files of all built-in exports by resource name, read on first use
+    private static final Map<String, Optional<String>> BUILT_IN_LAYOUT_TEXTS = new ConcurrentHashMap<>();
+
     private final String lfFileName;
     private final String directory;
     private final LayoutFormatterPreferences layoutPreferences;
@@ -220,12 +233,9 @@ public class TemplateExporter extends Exporter {
             List<String> missingFormatters = new ArrayList<>(1);
 
             // Print header
-            try (Reader reader = getReader(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION)) {
-                LayoutHelper layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                beginLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was cast, export filter doesn't have a begin
-                // file.
+            Optional<String> beginLayoutText = getLayoutText(lfFileName + BEGIN_INFIX + LAYOUT_EXTENSION);
+            if (beginLayoutText.isPresent()) {
+                beginLayout = compileLayout(beginLayoutText.get(), fileDirForDatabase, abbreviationRepository);
             }
             // Write the header
             if (beginLayout != null) {
@@ -239,69 +249,34 @@ public class TemplateExporter extends Exporter {
              */
             List<BibEntry> sorted = BibDatabaseWriter.getSortedEntries(entries, saveOrder);
 
-            // Load default layout
-            Layout defLayout;
-            LayoutHelper layoutHelper;
-            try (Reader reader = getReader(lfFileName + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                defLayout = layoutHelper.getLayoutFromText();
-            }
-            if (defLayout != null) {
-                missingFormatters.addAll(defLayout.getMissingFormatters());
-                if (!missingFormatters.isEmpty()) {
-                    LOGGER.warn("Missing formatters found: {}", missingFormatters);
-                }
+            // Load default layout and the type-specific layouts of the exported entries
+            String defaultLayoutText = readLayoutText(lfFileName + LAYOUT_EXTENSION);
+            Map<EntryType, String> layoutTexts = new HashMap<>();
+            sorted.stream().map(BibEntry::getType).distinct().forEach(type ->
+                    getLayoutText(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)
+                            .ifPresent(text -> layoutTexts.put(type, text)));
+
+            EntryRenderer renderer = new EntryRenderer(defaultLayoutText, layoutTexts, fileDirForDatabase, abbreviationRepository);
+            missingFormatters.addAll(renderer.getMissingFormatters());
+            if (!missingFormatters.isEmpty()) {
+                LOGGER.warn("Missing formatters found: {}", missingFormatters);
             }
-            Map<EntryType, Layout> layouts = new HashMap<>();
-            Layout layout;
-
-            Number.serialExportNumber = 0;
-            for (BibEntry entry : sorted) {
-                Number.serialExportNumber++; // Increment entry counter.
-                // Get the layout
-                EntryType type = entry.getType();
-                if (layouts.containsKey(type)) {
-                    layout = layouts.get(type);
-                } else {
-                    try (Reader reader = getReader(lfFileName + '.' + type.getName() + LAYOUT_EXTENSION)) {
-                        // We try to get a type-specific layout for this entry.
-                        layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                        layout = layoutHelper.getLayoutFromText();
-                        layouts.put(type, layout);
-                        if (layout != null) {
-                            missingFormatters.addAll(layout.getMissingFormatters());
-                        }
-                    } catch (IOException ex) {
-                        // The exception indicates that no type-specific layout
-                        // exists, so we
-                        // go with the default one.
-                        layout = defLayout;
-                    }
-                }
 
-                // Write the entry
-                if (layout != null) {
-                    if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
-                        String[] lines = layout.doLayout(entry, databaseContext.getDatabase()).split(BLANK_LINE_PATTERN);
-                        for (String line : lines) {
-                            if (!line.isBlank() && !line.isEmpty()) {
-                                ps.write(line + OS.NEWLINE);
-                            }
-                        }
-                    } else {
-                        ps.write(layout.doLayout(entry, databaseContext.getDatabase()));
-                    }
+            int chunkSize = Math.max(MINIMUM_CHUNK_SIZE, sorted.size() / (4 * ForkJoinPool.getCommonPoolParallelism()));
+            if ((sorted.size() <= chunkSize) || renderer.hasGroupBlocks()) {
+                renderer.render(sorted, 0, sorted.size(), databaseContext.getDatabase(), ps);
+            } else {
+                for (String renderedChunk : renderInParallel(sorted, chunkSize, databaseContext.getDatabase(),
+                        defaultLayoutText, layoutTexts, fileDirForDatabase, abbreviationRepository)) {
+                    ps.write(renderedChunk);
                 }
             }
 
             // Print footer
             Layout endLayout = null;
-            try (Reader reader = getReader(lfFileName + END_INFIX + LAYOUT_EXTENSION)) {
-                layoutHelper = new LayoutHelper(reader, fileDirForDatabase, layoutPreferences, abbreviationRepository);
-                endLayout = layoutHelper.getLayoutFromText();
-            } catch (IOException ex) {
-                // If an exception was thrown, export filter doesn't have an end
-                // file.
+            Optional<String> endLayoutText = getLayoutText(lfFileName + END_INFIX + LAYOUT_EXTENSION);
+            if (endLayoutText.isPresent()) {
+                endLayout = compileLayout(endLayoutText.get(), fileDirForDatabase, abbreviationRepository);
             }
 
             // Write footer
@@ -318,6 +293,143 @@ public class TemplateExporter extends Exporter {
         }
     }
 
+    /**
+     * Renders the given entries in chunks of the given size in parallel. Each chunk is rendered with its own layouts,
+     * because the formatters of a layout are not required to be thread-safe.
+     *
+     * @return the rendered chunks in the order of the entries
+     */
+    private List<String> renderInParallel(List<BibEntry> sorted,
+                                          int chunkSize,
+                                          BibDatabase database,
+                                          String defaultLayoutText,
+                                          Map<EntryType, String> layoutTexts,
+                                          List<Path> fileDirForDatabase,
+                                          JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        List<Integer> chunkStarts = IntStream.iterate(0, start -> start < sorted.size(), start -> start + chunkSize)
+                                             .boxed()
+                                             .toList();
+        try {
+            return chunkStarts.parallelStream()
+                              .map(start -> {
+                                  StringWriter writer = new StringWriter();
+                                  try {
+                                      new EntryRenderer(defaultLayoutText, layoutTexts, fileDirForDatabase, abbreviationRepository)
+                                              .render(sorted, start, Math.min(start + chunkSize, sorted.size()), database, writer);
+                                  } catch (IOException e) {
+                                      throw new UncheckedIOException(e);
+                                  }
+                                  return writer.toString();
+                              })
+                              .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Layout compileLayout(String layoutText,
+                                 List<Path> fileDirForDatabase,
+                                 JournalAbbreviationRepository abbreviationRepository) throws IOException {
+        return new LayoutHelper(Reader.of(layoutText), fileDirForDatabase, layoutPreferences, abbreviationRepository)
+                .getLayoutFromText();
+    }
+
+    /**
+     * Reads the given layout file. The layout files of built-in exports are read only once.
+     *
+     * @throws IOException if the layout file does not exist or cannot be read
+     */
+    private String readLayoutText(String filename) throws IOException {
+        Optional<String> layoutText = getLayoutText(filename);
+        if (layoutText.isPresent()) {
+            return layoutText.get();
+        }
+        // Reports the cause
+        try (Reader reader = getReader(filename)) {
+            return readAll(reader);
+        }
+    }
+
+    /**
+     * @return the content of the given layout file, or an empty Optional if the export does not have this layout file
+     */
+    private Optional<String> getLayoutText(String filename) {
+        if (customExport) {
+            return readLayoutFile(filename);
+        }
+        // The layout files of built-in exports are resources, which do not change
+        String name = LAYOUT_PREFIX + (directory == null ? "" : directory + '/') + filename;
+        return BUILT_IN_LAYOUT_TEXTS.computeIfAbsent(name, _ -> readLayoutFile(filename));
+    }
+
+    private Optional<String> readLayoutFile(String filename) {
+        try (Reader reader = getReader(filename)) {
+            return Optional.of(readAll(reader));
+        } catch (IOException ex) {
+            // The export does not have this layout file
+            return Optional.empty();
+        }
+    }
+
+    private static String readAll(Reader reader) throws IOException {
+        StringWriter writer = new StringWriter();
+        reader.transferTo(writer);
+        return writer.toString();
+    }
+
+    /**
+     * Renders entries with the compiled default layout and type-specific layouts of this export
+     */
+    private class EntryRenderer {
+        private final Layout defaultLayout;
+        private final Map<EntryType, Layout> layouts = new HashMap<>();
+
+        EntryRenderer(String defaultLayoutText,
+                      Map<EntryType, String> layoutTexts,
+                      List<Path> fileDirForDatabase,
+                      JournalAbbreviationRepository abbreviationRepository) throws IOException {
+            defaultLayout = compileLayout(defaultLayoutText, fileDirForDatabase, abbreviationRepository);
+            for (Map.Entry<EntryType, String> layoutText : layoutTexts.entrySet()) {
+                layouts.put(layoutText.getKey(), compileLayout(layoutText.getValue(), fileDirForDatabase, abbreviationRepository));
+            }
+        }
+
+        List<String> getMissingFormatters() {
+            List<String> missingFormatters = new ArrayList<>(defaultLayout.getMissingFormatters());
+            layouts.values().forEach(layout -> missingFormatters.addAll(layout.getMissingFormatters()));
+            return missingFormatters;
+        }
+
+        boolean hasGroupBlocks() {
+            return defaultLayout.hasGroupBlocks() || layouts.values().stream().anyMatch(Layout::hasGroupBlocks);
+        }
+
+        /**
+         * Renders the entries from index {@code from} (inclusive) to index {@code to} (exclusive) of the given sorted entries
+         */
+        void render(List<BibEntry> sorted, int from, int to, BibDatabase database, Writer writer) throws IOException {
+            LayoutRenderContext context = new LayoutRenderContext();
+            for (int i = from; i < to; i++) {
+                BibEntry entry = sorted.get(i);
+                // The number of the entry in the export
+                context.setEntryNumber(i + 1);
+                Layout layout = layouts.getOrDefault(entry.getType(), defaultLayout);
+
+                // Write the entry
+                if (blankLineBehaviour == BlankLineBehaviour.DELETE_BLANKS) {
+                    String[] lines = layout.doLayout(entry, database, context).split(BLANK_LINE_PATTERN);
+                    for (String line : lines) {
+                        if (!line.isBlank() && !line.isEmpty()) {
+                            writer.write(line + OS.NEWLINE);
+                        }
+                    }
+                } else {
+                    writer.write(layout.doLayout(entry, database, context));
+                }
+            }
+        }
+    }
+
     /**
      * See if there is a name formatter file bundled with this export format.
      * If so, read all the name formatters so they can be used by the filter layouts.
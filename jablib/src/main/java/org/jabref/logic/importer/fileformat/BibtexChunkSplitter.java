@@ -0,0 +1,119 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Splits BibTeX content into chunks which can be parsed independently by {@link BibtexParser}.
+ * <p>
+ * A chunk ends directly after an entry, at the position where the parser continues after having parsed the entry
+ * (i.e., after the closing brace and one newline). Thus, the comments in front of an entry stay with the entry.
+ * The ends of the blocks are found by counting braces only. This is not exact (e.g., for escaped braces), but
+ * a wrong end leads to a chunk ending inside an entry, which is reported by the parser as an error.
+ */
+class BibtexChunkSplitter {
+
+    record Chunk(int start, int end, int firstLine) {
+    }
+
+    private static final Set<String> NON_ENTRY_TYPES = Set.of("preamble", "string", "comment");
+
+    private BibtexChunkSplitter() {
+    }
+
+    /**
+     * @param minimumChunkLength the minimal number of characters of a chunk (except the last one)
+     * @return the chunks in the order of the content, a single chunk if the content cannot be split
+     */
+    static List<Chunk> split(String content, int minimumChunkLength) {
+        List<Chunk> chunks = new ArrayList<>();
+        int length = content.length();
+        int chunkStart = 0;
+        int chunkFirstLine = 1;
+        int line = 1;
+        int position = 0;
+
+        while (position < length) {
+            char character = content.charAt(position);
+            position++;
+            if (character == '\n') {
+                line++;
+                continue;
+            }
+            if (character != '@') {
+                continue;
+            }
+
+            while ((position < length) && Character.isWhitespace(content.charAt(position))) {
+                if (content.charAt(position) == '\n') {
+                    line++;
+                }
+                position++;
+            }
+            // Same characters as BibtexParser#parseTextToken
+            int typeStart = position;
+            while ((position < length) && (Character.isLetterOrDigit(content.charAt(position)) || (":-_*+./'".indexOf(content.charAt(position)) >= 0))) {
+                position++;
+            }
+            String type = content.substring(typeStart, position).toLowerCase(Locale.ROOT);
+            while ((position < length) && Character.isWhitespace(content.charAt(position))) {
+                if (content.charAt(position) == '\n') {
+                    line++;
+                }
+                position++;
+            }
+            if (position == length) {
+                break;
+            }
+            if (content.charAt(position) == '(') {
+                // The end of blocks delimited by parentheses cannot be found by counting braces
+                return List.of(new Chunk(0, length, 1));
+            }
+            if (content.charAt(position) != '{') {
+                continue;
+            }
+
+            int depth = 0;
+            while (position < length) {
+                char blockCharacter = content.charAt(position);
+                position++;
+                if (blockCharacter == '{') {
+                    depth++;
+                } else if (blockCharacter == '}') {
+                    depth--;
+                    if (depth == 0) {
+                        break;
+                    }
+                } else if (blockCharacter == '\n') {
+                    line++;
+                }
+            }
+            if (depth != 0) {
+                break;
+            }
+
+            // Same as BibtexParser#skipOneNewline
+            while ((position < length) && (content.charAt(position) == ' ')) {
+                position++;
+            }
+            if ((position < length) && (content.charAt(position) == '\r')) {
+                position++;
+            }
+            if ((position < length) && (content.charAt(position) == '\n')) {
+                position++;
+                line++;
+            }
+
+            if (!NON_ENTRY_TYPES.contains(type) && (position - chunkStart >= minimumChunkLength) && (position < length)) {
+                chunks.add(new Chunk(chunkStart, position, chunkFirstLine));
+                chunkStart = position;
+                chunkFirstLine = line;
+            }
+        }
+
+        chunks.add(new Chunk(chunkStart, length, chunkFirstLine));
+        return chunks;
+    }
+}
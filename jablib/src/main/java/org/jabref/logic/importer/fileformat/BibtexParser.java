@@ -6,19 +6,22 @@ import java.io.InputStream;
 import java.io.PushbackReader;
 import java.io.Reader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
-import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
@@ -59,6 +62,7 @@ import com.dd.plist.BinaryPropertyListParser;
 import com.dd.plist.NSArray;
 import com.dd.plist.NSDictionary;
 import com.dd.plist.NSString;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -94,7 +98,10 @@ public class BibtexParser implements Parser {
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
     private static final int INDEX_RELATIVE_PATH_IN_PLIST = 4;
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
+    // Smaller chunks are not worth the overhead of parsing them in parallel
+    private static final int MINIMUM_CHUNK_LENGTH = 64 * 1024;
+    // The text read since the last call of dumpTextReadSoFarToString()
+    private final StringBuilder pureTextFromFile = new StringBuilder();
     private final ImportFormatPreferences importFormatPreferences;
     private PushbackReader pushbackReader;
     private BibDatabase database;
@@ -107,6 +114,24 @@ public class BibtexParser implements Parser {
 
     private GroupTreeNode bibDeskGroupTreeNode;
 
+    /**
+     * The result of parsing a part of the content by {@link #parseInParallel(Reader)}
+     */
+    private record ParsedChunk(BibtexParser parser, List<BibEntry> entries, Map<String, String> meta) {
+        /**
+         * @return true if the chunk could not be parsed on its own, e.g., because it ends inside an entry, or if it contains content which has to be parsed as part of the last chunk
+         */
+        boolean isIncomplete() {
+            return parser.parserResult.hasWarnings()
+                    || !parser.database.getEpilog().isEmpty()
+                    || !parser.parsedBibdeskGroups.isEmpty()
+                    || (parser.bibDeskGroupTreeNode != null);
+        }
+    }
+
+    // If set, the parsed entries are passed to this consumer instead of being added to the database
+    private @Nullable Consumer<BibEntry> entryConsumer;
+
     public BibtexParser(ImportFormatPreferences importFormatPreferences, FileUpdateMonitor fileMonitor) {
         this.importFormatPreferences = Objects.requireNonNull(importFormatPreferences);
         this.metaDataParser = new MetaDataParser(fileMonitor);
@@ -161,7 +186,26 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
+        return parseContent(in, null);
+    }
+
+    /**
+     * Parses BibTeX data found when reading from reader and passes each entry to the given consumer as soon as it is parsed.
+     * <p>
+     * In contrast to {@link #parse(Reader)}, the entries are not collected. Thus, the memory needed does not depend on the number of entries,
+     * and files which do not fit into memory (e.g., a DBLP dump) can be processed, as long as the consumer does not keep the entries.
+     * <p>
+     * The returned result contains everything except the entries: the strings, the preamble, the epilog, and the metadata.
+     * The strings parsed so far are available during parsing using {@link #getStringValues()}, e.g., to resolve string references in the entries.
+     * Groups of BibDesk are not assigned to the entries, because the group memberships are stored after the entries.
+     */
+    public ParserResult parse(Reader in, Consumer<BibEntry> entryConsumer) throws IOException {
+        return parseContent(in, Objects.requireNonNull(entryConsumer));
+    }
+
+    private ParserResult parseContent(Reader in, @Nullable Consumer<BibEntry> entryConsumer) throws IOException {
         Objects.requireNonNull(in);
+        this.entryConsumer = entryConsumer;
         pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
 
         String newLineSeparator = determineNewLineSeparator();
@@ -225,9 +269,120 @@ public class BibtexParser implements Parser {
         }
     }
 
+    /**
+     * Parses BibTeX data like {@link #parse(Reader)}, but parses the entries on all processor cores.
+     * <p>
+     * The content is split between entries into chunks (see {@link BibtexChunkSplitter}), which are parsed independently.
+     * Afterwards, the entries, strings, and metadata of the chunks are merged in the order of the content.
+     * If parsing of a chunk other than the last one reports a problem, the content is parsed again sequentially.
+     * Thus, problems are reported exactly as by {@link #parse(Reader)}, including their line numbers.
+     * <p>
+     * The reader will be consumed completely before parsing starts.
+     */
+    public ParserResult parseInParallel(Reader in) throws IOException {
+        Objects.requireNonNull(in);
+        StringWriter contentWriter = new StringWriter();
+        in.transferTo(contentWriter);
+        String content = contentWriter.toString();
+
+        int minimumChunkLength = Math.max(MINIMUM_CHUNK_LENGTH, content.length() / (4 * ForkJoinPool.getCommonPoolParallelism()));
+        List<BibtexChunkSplitter.Chunk> chunks = BibtexChunkSplitter.split(content, minimumChunkLength);
+        if (chunks.size() == 1) {
+            return parse(Reader.of(content));
+        }
+
+        List<ParsedChunk> parsedChunks;
+        try {
+            parsedChunks = chunks.parallelStream()
+                                 .map(chunk -> {
+                                     try {
+                                         return new BibtexParser(importFormatPreferences).parseChunk(content, chunk);
+                                     } catch (IOException e) {
+                                         throw new UncheckedIOException(e);
+                                     }
+                                 })
+                                 .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        boolean chunkWithProblems = parsedChunks.subList(0, parsedChunks.size() - 1).stream().anyMatch(ParsedChunk::isIncomplete);
+        if (chunkWithProblems) {
+            LOGGER.debug("Could not parse the chunks independently, parsing the whole content");
+            return parse(Reader.of(content));
+        }
+        return mergeChunks(parsedChunks);
+    }
+
+    private ParsedChunk parseChunk(String content, BibtexChunkSplitter.Chunk chunk) throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        entryConsumer = entries::add;
+        pushbackReader = new PushbackReader(Reader.of(CharBuffer.wrap(content, chunk.start(), chunk.end())), BibtexParser.LOOKAHEAD);
+        line = chunk.firstLine();
+
+        initializeParserResult(determineNewLineSeparator());
+        if (chunk.start() == 0) {
+            parseDatabaseID();
+        }
+        skipWhitespace();
+
+        Map<String, String> meta = new HashMap<>();
+        parseBlocks(meta);
+        parseRemainingContent();
+        return new ParsedChunk(this, entries, meta);
+    }
+
+    private ParserResult mergeChunks(List<ParsedChunk> parsedChunks) {
+        BibtexParser firstParser = parsedChunks.getFirst().parser();
+        initializeParserResult(firstParser.database.getNewLineSeparator());
+        firstParser.database.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+
+        List<BibEntry> entries = new ArrayList<>();
+        Map<String, String> meta = new HashMap<>();
+        for (ParsedChunk parsedChunk : parsedChunks) {
+            BibtexParser chunkParser = parsedChunk.parser();
+            entries.addAll(parsedChunk.entries());
+            chunkParser.database.getStringValues().forEach(this::addBibtexString);
+            chunkParser.database.getPreamble().ifPresent(database::setPreamble);
+            meta.putAll(parsedChunk.meta());
+            entryTypes.addAll(chunkParser.entryTypes);
+            chunkParser.parserResult.warnings().forEach(parserResult::addWarning);
+        }
+        reassignIdsInContentOrder(entries);
+        database.insertEntries(entries);
+
+        // Only the last chunk may contain content after the last entry, and BibDesk groups (see ParsedChunk#isIncomplete)
+        BibtexParser lastParser = parsedChunks.getLast().parser();
+        database.setEpilog(lastParser.database.getEpilog());
+        parsedBibdeskGroups.putAll(lastParser.parsedBibdeskGroups);
+        bibDeskGroupTreeNode = lastParser.bibDeskGroupTreeNode;
+
+        return finishParsing(meta);
+    }
+
+    /**
+     * The entries of the chunks are created concurrently, thus their IDs interleave across the chunks.
+     * The database requires entries ordered by their ID (see {@link BibDatabase#indexOf(BibEntry)}), thus the IDs are redistributed in the order of the content.
+     */
+    private static void reassignIdsInContentOrder(List<BibEntry> entries) {
+        List<String> ids = entries.stream().map(BibEntry::getId).sorted().toList();
+        for (int i = 0; i < entries.size(); i++) {
+            BibEntry entry = entries.get(i);
+            // Changing the ID does not change the content, thus the parsed serialization can still be used
+            boolean changed = entry.hasChanged();
+            entry.setId(ids.get(i));
+            entry.setChanged(changed);
+        }
+    }
+
     private ParserResult parseFileContent() throws IOException {
         Map<String, String> meta = new HashMap<>();
+        parseBlocks(meta);
+        parseRemainingContent();
+        return finishParsing(meta);
+    }
 
+    private void parseBlocks(Map<String, String> meta) throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -258,7 +413,9 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
 
+    private ParserResult finishParsing(Map<String, String> meta) {
         addBibDeskGroupEntriesToJabRefGroups();
 
         try {
@@ -288,8 +445,6 @@ public class BibtexParser implements Parser {
             parserResult.addException(exception);
         }
 
-        parseRemainingContent();
-
         checkEpilog();
 
         return parserResult;
@@ -331,7 +486,11 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            if (entryConsumer == null) {
+                database.insertEntry(entry);
+            } else {
+                entryConsumer.accept(entry);
+            }
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -450,7 +609,10 @@ public class BibtexParser implements Parser {
     }
 
     private void parseBibtexString() throws IOException {
-        BibtexString bibtexString = parseString();
+        addBibtexString(parseString());
+    }
+
+    private void addBibtexString(BibtexString bibtexString) {
         try {
             database.addString(bibtexString);
         } catch (KeyCollisionException ex) {
@@ -509,12 +671,9 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
-        }
-
-        return entry.toString();
+        String text = pureTextFromFile.toString();
+        pureTextFromFile.setLength(0);
+        return text;
     }
 
     /**
@@ -629,7 +788,7 @@ public class BibtexParser implements Parser {
         int character = pushbackReader.read();
 
         if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+            pureTextFromFile.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -642,8 +801,9 @@ public class BibtexParser implements Parser {
             line--;
         }
         pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        int length = pureTextFromFile.length();
+        if ((length > 0) && (pureTextFromFile.charAt(length - 1) == character)) {
+            pureTextFromFile.setLength(length - 1);
         }
     }
 
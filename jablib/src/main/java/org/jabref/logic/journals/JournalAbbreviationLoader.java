@@ -46,7 +46,7 @@ public class JournalAbbreviationLoader {
                 Path tempDir = Files.createTempDirectory("jabref-journal");
                 Path tempJournalList = tempDir.resolve("journal-list.mv");
                 Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository());
+                repository = new JournalAbbreviationRepository(tempJournalList, loadLtwaRepository(), true);
                 tempDir.toFile().deleteOnExit();
                 tempJournalList.toFile().deleteOnExit();
             }
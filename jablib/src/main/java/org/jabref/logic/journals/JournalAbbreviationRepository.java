@@ -18,6 +18,8 @@ import org.jabref.logic.util.strings.StringSimilarity;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A repository for all journal abbreviations, including add and find methods.
@@ -25,14 +27,24 @@ import org.h2.mvstore.MVStore;
 public class JournalAbbreviationRepository {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    public static final String FULL_TO_ABBREVIATION_MAP_NAME = "FullToAbbreviation";
+    public static final String ABBREVIATION_TO_FULL_MAP_NAME = "AbbreviationToFull";
+    public static final String DOTLESS_TO_FULL_MAP_NAME = "DotlessToFull";
+    public static final String SHORTEST_UNIQUE_TO_FULL_MAP_NAME = "ShortestUniqueToFull";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationRepository.class);
+
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, Abbreviation> abbreviationToAbbreviationObject;
+    private final Map<String, Abbreviation> dotlessToAbbreviationObject;
+    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
     private final StringSimilarity similarity = new StringSimilarity();
     private final LtwaRepository ltwaRepository;
 
+    // Built on the first fuzzy lookup, as most lookups are exact
+    private volatile JournalNameFuzzyIndex fuzzyIndex;
+
     /**
      * Initializes the internal data based on the abbreviations found in the given MV file
      *
@@ -40,30 +52,58 @@ public class JournalAbbreviationRepository {
      * @param ltwaRepository The LTWA repository to use for abbreviations.
      */
     public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
-        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
+        this(journalList, ltwaRepository, false);
+    }
+
+    /**
+     * @param journalList    The path to the MV file containing the journal abbreviations.
+     * @param ltwaRepository The LTWA repository to use for abbreviations.
+     * @param loadLazily     If <code>true</code>, the abbreviations are not copied into memory, but read from the file when they are looked up.
+     *                       This makes creating the repository nearly free, which matters for short-lived processes (e.g., the command line).
+     *                       The file has to stay available as long as the repository is used.
+     *                       Journal lists without the lookup maps (generated by older versions) are always loaded into memory.
+     */
+    public JournalAbbreviationRepository(Path journalList, LtwaRepository ltwaRepository, boolean loadLazily) {
+        this.ltwaRepository = ltwaRepository;
+
+        MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open();
+        if (loadLazily && store.hasMap(ABBREVIATION_TO_FULL_MAP_NAME)) {
+            MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
+            fullToAbbreviationObject = new MVStoreAbbreviationMap(mvFullToAbbreviationObject);
+            abbreviationToAbbreviationObject = new MVStoreAbbreviationMap(mvFullToAbbreviationObject, store.openMap(ABBREVIATION_TO_FULL_MAP_NAME));
+            dotlessToAbbreviationObject = new MVStoreAbbreviationMap(mvFullToAbbreviationObject, store.openMap(DOTLESS_TO_FULL_MAP_NAME));
+            shortestUniqueToAbbreviationObject = new MVStoreAbbreviationMap(mvFullToAbbreviationObject, store.openMap(SHORTEST_UNIQUE_TO_FULL_MAP_NAME));
+            // The store stays open as long as the repository is used
+            return;
+        }
+
+        if (loadLazily) {
+            LOGGER.debug("Journal list {} has no lookup maps, loading it into memory", journalList);
+        }
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToAbbreviationObject = new HashMap<>();
+        dotlessToAbbreviationObject = new HashMap<>();
+        shortestUniqueToAbbreviationObject = new HashMap<>();
+        try (store) {
+            MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION_MAP_NAME);
             mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
+                Abbreviation newAbbreviation = MVStoreAbbreviationMap.withName(name, abbreviation);
                 fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
+                abbreviationToAbbreviationObject.put(newAbbreviation.getAbbreviation(), newAbbreviation);
                 dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
+                shortestUniqueToAbbreviationObject.put(newAbbreviation.getShortestUniqueAbbreviation(), newAbbreviation);
             });
         }
-        this.ltwaRepository = ltwaRepository;
     }
 
     /**
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
+        fullToAbbreviationObject = new HashMap<>();
+        abbreviationToAbbreviationObject = new HashMap<>();
+        dotlessToAbbreviationObject = new HashMap<>();
+        shortestUniqueToAbbreviationObject = new HashMap<>();
         Abbreviation newAbbreviation = new Abbreviation(
                 "Demonstration",
                 "Demo",
@@ -165,25 +205,45 @@ public class JournalAbbreviationRepository {
             return customMatch;
         }
 
-        return findBestFuzzyMatched(fullToAbbreviationObject.values(), input);
+        return selectBestFuzzyMatch(getFuzzyIndex().findSimilar(input));
     }
 
-    private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
-        // threshold for edit distance similarity comparison
-        final double SIMILARITY_THRESHOLD = 1.0;
+    private JournalNameFuzzyIndex getFuzzyIndex() {
+        JournalNameFuzzyIndex index = fuzzyIndex;
+        if (index == null) {
+            synchronized (this) {
+                if (fuzzyIndex == null) {
+                    fuzzyIndex = new JournalNameFuzzyIndex(fullToAbbreviationObject.values());
+                }
+                index = fuzzyIndex;
+            }
+        }
+        return index;
+    }
 
-        List<Abbreviation> candidates = abbreviations.stream()
+    private Optional<Abbreviation> findBestFuzzyMatched(Collection<Abbreviation> abbreviations, String input) {
+        List<JournalNameFuzzyIndex.Match> candidates = abbreviations.stream()
                 .filter(abbreviation -> similarity.isSimilar(input, abbreviation.getName()))
-                .sorted(Comparator.comparingDouble(abbreviation -> similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
+                .map(abbreviation -> new JournalNameFuzzyIndex.Match(abbreviation, (int) similarity.editDistanceIgnoreCase(input, abbreviation.getName())))
+                .sorted(Comparator.comparingInt(JournalNameFuzzyIndex.Match::distance))
                 .toList();
+        return selectBestFuzzyMatch(candidates);
+    }
+
+    /**
+     * @param candidates the similar journals, the most similar first
+     */
+    private Optional<Abbreviation> selectBestFuzzyMatch(List<JournalNameFuzzyIndex.Match> candidates) {
+        // threshold for edit distance similarity comparison
+        final double SIMILARITY_THRESHOLD = 1.0;
 
         if (candidates.isEmpty()) {
             return Optional.empty();
         }
 
         if (candidates.size() > 1) {
-            double bestDistance = similarity.editDistanceIgnoreCase(input, candidates.getFirst().getName());
-            double secondDistance = similarity.editDistanceIgnoreCase(input, candidates.get(1).getName());
+            double bestDistance = candidates.getFirst().distance();
+            double secondDistance = candidates.get(1).distance();
 
             // If there is a very close match of two abbreviations, do not use any of them, because they are too close.
             if (Math.abs(bestDistance - secondDistance) < SIMILARITY_THRESHOLD) {
@@ -191,7 +251,7 @@ public class JournalAbbreviationRepository {
             }
         }
 
-        return Optional.of(candidates.getFirst());
+        return Optional.of(candidates.getFirst().abbreviation());
     }
 
     public void addCustomAbbreviation(Abbreviation abbreviation) {
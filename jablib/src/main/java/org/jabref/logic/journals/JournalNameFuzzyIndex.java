@@ -0,0 +1,65 @@
+package org.jabref.logic.journals;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.jabref.logic.util.strings.StringSimilarity;
+
+/**
+ * Finds the journals whose full name is similar to a given name (in the sense of {@link StringSimilarity#isSimilar(String, String)})
+ * without computing the edit distance to all journal names.
+ * <p>
+ * The names are grouped by their length, because names whose lengths differ by more than the threshold cannot be similar.
+ * For the names of the remaining lengths, the edit distance is only computed up to the threshold.
+ */
+class JournalNameFuzzyIndex {
+
+    record Match(Abbreviation abbreviation, int distance) {
+    }
+
+    private record IndexedName(String lowerCaseName, Abbreviation abbreviation) {
+    }
+
+    // index: length of the lower case name
+    private final List<List<IndexedName>> namesByLength = new ArrayList<>();
+
+    JournalNameFuzzyIndex(Collection<Abbreviation> abbreviations) {
+        for (Abbreviation abbreviation : abbreviations) {
+            String lowerCaseName = toLowerCase(abbreviation.getName());
+            while (namesByLength.size() <= lowerCaseName.length()) {
+                namesByLength.add(new ArrayList<>());
+            }
+            namesByLength.get(lowerCaseName.length()).add(new IndexedName(lowerCaseName, abbreviation));
+        }
+    }
+
+    /**
+     * @return the journals with a similar full name, the most similar first
+     */
+    List<Match> findSimilar(String name) {
+        String lowerCaseName = toLowerCase(name);
+        int maxDistance = StringSimilarity.METRIC_THRESHOLD;
+        int fromLength = Math.max(0, lowerCaseName.length() - maxDistance);
+        int toLength = Math.min(namesByLength.size() - 1, lowerCaseName.length() + maxDistance);
+
+        List<Match> matches = new ArrayList<>();
+        for (int length = fromLength; length <= toLength; length++) {
+            for (IndexedName indexedName : namesByLength.get(length)) {
+                int distance = StringSimilarity.boundedEditDistance(lowerCaseName, indexedName.lowerCaseName(), maxDistance);
+                if (distance <= maxDistance) {
+                    matches.add(new Match(indexedName.abbreviation(), distance));
+                }
+            }
+        }
+        matches.sort(Comparator.comparingInt(Match::distance));
+        return matches;
+    }
+
+    private static String toLowerCase(String name) {
+        // Same as in StringSimilarity#editDistanceIgnoreCase
+        return name.toLowerCase(Locale.ENGLISH);
+    }
+}
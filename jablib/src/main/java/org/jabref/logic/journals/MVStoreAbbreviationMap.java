@@ -0,0 +1,102 @@
+package org.jabref.logic.journals;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.h2.mvstore.MVMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A read-only view on the journal list file, which reads an abbreviation only when it is looked up.
+ * The results of recent lookups (including unsuccessful ones) are cached.
+ * <p>
+ * The keys are either the full journal names or, if a map from the keys to the full names is given, the keys of that map (e.g., the abbreviations).
+ */
+class MVStoreAbbreviationMap extends AbstractMap<String, Abbreviation> {
+    private static final int CACHE_SIZE = 1024;
+
+    private final MVMap<String, Abbreviation> fullToAbbreviation;
+    private final @Nullable MVMap<String, String> keyToFullName;
+    private final Map<String, Optional<Abbreviation>> cache = Collections.synchronizedMap(new LinkedHashMap<>(CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Optional<Abbreviation>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
+    MVStoreAbbreviationMap(MVMap<String, Abbreviation> fullToAbbreviation) {
+        this(fullToAbbreviation, null);
+    }
+
+    MVStoreAbbreviationMap(MVMap<String, Abbreviation> fullToAbbreviation, @Nullable MVMap<String, String> keyToFullName) {
+        this.fullToAbbreviation = fullToAbbreviation;
+        this.keyToFullName = keyToFullName;
+    }
+
+    @Override
+    public Abbreviation get(Object key) {
+        if (!(key instanceof String name)) {
+            return null;
+        }
+        return cache.computeIfAbsent(name, this::lookup).orElse(null);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    private Optional<Abbreviation> lookup(String key) {
+        String fullName = keyToFullName == null ? key : keyToFullName.get(key);
+        if (fullName == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(fullToAbbreviation.get(fullName))
+                       .map(abbreviation -> withName(fullName, abbreviation));
+    }
+
+    /**
+     * The name of an {@link Abbreviation} is not serialized, thus it is restored from the key of the stored abbreviation
+     */
+    static Abbreviation withName(String fullName, Abbreviation storedAbbreviation) {
+        return new Abbreviation(fullName, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(keyToFullName == null ? fullToAbbreviation.keySet() : keyToFullName.keySet());
+    }
+
+    @Override
+    public Set<Entry<String, Abbreviation>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Abbreviation>> iterator() {
+                Iterator<String> keys = keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Abbreviation> next() {
+                        String key = keys.next();
+                        return new SimpleImmutableEntry<>(key, lookup(key).orElseThrow());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return keyToFullName == null ? fullToAbbreviation.size() : keyToFullName.size();
+            }
+        };
+    }
+}
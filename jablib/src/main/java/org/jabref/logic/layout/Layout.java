@@ -98,10 +98,18 @@ public class Layout {
      * recursive string references are resolved.
      */
     public String doLayout(BibEntry bibtex, BibDatabase database) {
+        return doLayout(bibtex, database, new LayoutRenderContext());
+    }
+
+    /**
+     * Returns the processed bibtex entry as part of the rendering described by the given context,
+     * e.g., the number of the entry. The layout itself keeps no state between entries.
+     */
+    public String doLayout(BibEntry bibtex, BibDatabase database, LayoutRenderContext context) {
         StringBuilder builder = new StringBuilder(100);
 
         for (LayoutEntry layoutEntry : layoutEntries) {
-            String fieldText = layoutEntry.doLayout(bibtex, database);
+            String fieldText = layoutEntry.doLayout(bibtex, database, context);
 
             // The following change means we treat null fields as "". This is to fix the
             // problem of whitespace disappearing after missing fields.
@@ -138,6 +146,14 @@ public class Layout {
         return sb.toString();
     }
 
+    /**
+     * Returns whether this layout contains a group block. A group block is output only if its value differs from the one
+     * of the previous entry, thus such a layout has to render the entries one after another.
+     */
+    public boolean hasGroupBlocks() {
+        return layoutEntries.stream().anyMatch(LayoutEntry::hasGroupBlocks);
+    }
+
     public List<String> getMissingFormatters() {
         return new ArrayList<>(missingFormatters);
     }
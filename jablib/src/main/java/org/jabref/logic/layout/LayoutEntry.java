@@ -199,7 +199,7 @@ class LayoutEntry {
         this.postFormatter = formatter;
     }
 
-    public String doLayout(BibEntry bibEntry, BibDatabase database) {
+    public String doLayout(BibEntry bibEntry, BibDatabase database, LayoutRenderContext context) {
         switch (type) {
             case LayoutHelper.IS_LAYOUT_TEXT:
                 return text;
@@ -213,9 +213,9 @@ class LayoutEntry {
                 return value;
             case LayoutHelper.IS_FIELD_START:
             case LayoutHelper.IS_GROUP_START:
-                return handleFieldOrGroupStart(bibEntry, database);
+                return handleFieldOrGroupStart(bibEntry, database, context);
             case LayoutHelper.IS_OPTION_FIELD:
-                return handleOptionField(bibEntry, database);
+                return handleOptionField(bibEntry, database, context);
             case LayoutHelper.IS_ENCODING_NAME:
                 // Printing the encoding name is not supported in entry layouts, only
                 // in begin/end layouts. This prevents breakage if some users depend
@@ -238,7 +238,7 @@ class LayoutEntry {
         return database.resolveForStrings(text);
     }
 
-    private String handleOptionField(BibEntry bibtex, BibDatabase database) {
+    private String handleOptionField(BibEntry bibtex, BibDatabase database, LayoutRenderContext context) {
         String fieldEntry;
 
         if (InternalField.TYPE_HEADER.getName().equals(text)) {
@@ -252,7 +252,11 @@ class LayoutEntry {
 
         if (option != null) {
             for (LayoutFormatter anOption : option) {
-                fieldEntry = anOption.format(fieldEntry);
+                if (anOption instanceof Number number) {
+                    fieldEntry = number.format(fieldEntry, context);
+                } else {
+                    fieldEntry = anOption.format(fieldEntry);
+                }
             }
         }
 
@@ -264,7 +268,7 @@ class LayoutEntry {
         return fieldEntry;
     }
 
-    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database) {
+    private String handleFieldOrGroupStart(BibEntry bibtex, BibDatabase database, LayoutRenderContext context) {
         Optional<String> field;
         boolean negated = false;
         if (type == LayoutHelper.IS_GROUP_START) {
@@ -294,22 +298,22 @@ class LayoutEntry {
         }
 
         if ((field.isPresent() == negated) || ((type == LayoutHelper.IS_GROUP_START)
-                && field.get().equalsIgnoreCase(LayoutHelper.getCurrentGroup()))) {
+                && field.get().equalsIgnoreCase(context.getCurrentGroup()))) {
             return null;
         } else {
             if (type == LayoutHelper.IS_GROUP_START) {
-                LayoutHelper.setCurrentGroup(field.get());
+                context.setCurrentGroup(field.get());
             }
             StringBuilder sb = new StringBuilder(100);
             String fieldText;
             boolean previousSkipped = false;
 
             for (int i = 0; i < layoutEntries.size(); i++) {
-                fieldText = layoutEntries.get(i).doLayout(bibtex, database);
+                fieldText = layoutEntries.get(i).doLayout(bibtex, database, context);
 
                 if (fieldText == null) {
                     if ((i + 1) < layoutEntries.size()) {
-                        if (layoutEntries.get(i + 1).doLayout(bibtex, database).trim().isEmpty()) {
+                        if (layoutEntries.get(i + 1).doLayout(bibtex, database, context).trim().isEmpty()) {
                             i++;
                             previousSkipped = true;
                             continue;
@@ -538,6 +542,14 @@ class LayoutEntry {
         return results;
     }
 
+    /**
+     * Returns whether this entry contains a group block, which depends on the entries rendered before
+     */
+    public boolean hasGroupBlocks() {
+        return (type == LayoutHelper.IS_GROUP_START)
+                || ((layoutEntries != null) && layoutEntries.stream().anyMatch(LayoutEntry::hasGroupBlocks));
+    }
+
     public List<String> getInvalidFormatters() {
         return invalidFormatter;
     }
@@ -0,0 +1,51 @@
+package org.jabref.logic.layout;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The state of rendering a sequence of entries with {@link Layout}s, e.g., during an export.
+ * <p>
+ * The layouts themselves keep no state between entries. Thus, several sequences can be rendered at the same time,
+ * each with its own context.
+ */
+public class LayoutRenderContext {
+
+    private int entryNumber;
+    private @Nullable String currentGroup;
+
+    /**
+     * Creates a context for rendering a single entry, e.g., for the preview
+     */
+    public LayoutRenderContext() {
+        this(1);
+    }
+
+    /**
+     * @param entryNumber the number of the first entry to render, starting with 1
+     */
+    public LayoutRenderContext(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    /**
+     * Returns the position of the current entry in the sequence, as output by the {@link org.jabref.logic.layout.format.Number} formatter
+     */
+    public int getEntryNumber() {
+        return entryNumber;
+    }
+
+    public void setEntryNumber(int entryNumber) {
+        this.entryNumber = entryNumber;
+    }
+
+    /**
+     * Returns the value of the field of the last group block that was output. A group block is output only if the value changes.
+     */
+    @Nullable String getCurrentGroup() {
+        return currentGroup;
+    }
+
+    void setCurrentGroup(String currentGroup) {
+        this.currentGroup = currentGroup;
+    }
+}
@@ -1,22 +1,29 @@
 package org.jabref.logic.layout.format;
 
+import org.jabref.logic.layout.LayoutRenderContext;
 import org.jabref.logic.layout.ParamLayoutFormatter;
 
 /**
  * Formatter that outputs a sequence number for the current entry. The sequence number is
  * tied to the entry's position in the order, not to the number of calls to this formatter.
+ * The position is taken from the {@link LayoutRenderContext} of the rendering.
  */
 public class Number implements ParamLayoutFormatter {
 
-    public static int serialExportNumber;
-
     @Override
     public void setArgument(String arg) {
         // No effect currently.
     }
 
+    /**
+     * Without a rendering context, the entry is the only one, e.g., in the preview
+     */
     @Override
     public String format(String fieldText) {
-        return String.valueOf(serialExportNumber);
+        return format(fieldText, new LayoutRenderContext());
+    }
+
+    public String format(String fieldText, LayoutRenderContext context) {
+        return String.valueOf(context.getEntryNumber());
     }
 }
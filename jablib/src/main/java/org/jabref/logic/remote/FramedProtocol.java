@@ -0,0 +1,154 @@
+package org.jabref.logic.remote;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectStreamConstants;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+import javafx.util.Pair;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Exchanges {@link RemoteMessage}s as frames of a known length instead of serialized Java objects.
+ *
+ * @implNote Every message is sent as a frame consisting of
+ * <ol>
+ *     <li>the two bytes of {@link #MAGIC}, which differ from the stream header of the Java serialization used by {@link Protocol}</li>
+ *     <li>the length of the content in bytes as {@code int}</li>
+ *     <li>the content: the name of the {@link RemoteMessage}, the number of arguments as {@code int}, and the arguments as UTF-8 strings, each preceded by its length as {@code int}</li>
+ * </ol>
+ */
+public class FramedProtocol implements MessageProtocol {
+    /**
+     * The characters "JR"
+     */
+    public static final int MAGIC = 0x4A52;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FramedProtocol.class);
+
+    // Command line arguments are file names and options, thus anything larger is not sent by JabRef
+    private static final int MAXIMUM_FRAME_LENGTH = 16 * 1024 * 1024;
+
+    private final Socket socket;
+    private final DataOutputStream out;
+    private final DataInputStream in;
+
+    public FramedProtocol(Socket socket) throws IOException {
+        this(socket, socket.getInputStream());
+    }
+
+    /**
+     * @param in the input stream of the socket, e.g., after the server inspected the first bytes to determine the protocol
+     */
+    public FramedProtocol(Socket socket, InputStream in) throws IOException {
+        this.socket = socket;
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        this.in = new DataInputStream(new BufferedInputStream(in));
+    }
+
+    @Override
+    public void sendMessage(RemoteMessage type) throws IOException {
+        sendMessage(type, null);
+    }
+
+    @Override
+    public void sendMessage(RemoteMessage type, Object argument) throws IOException {
+        String[] arguments = switch (argument) {
+            case null -> new String[0];
+            case String string -> new String[] {string};
+            case String[] strings -> strings;
+            default -> throw new IllegalArgumentException("Argument of type " + argument.getClass() + " cannot be sent");
+        };
+
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        DataOutputStream contentOut = new DataOutputStream(content);
+        contentOut.writeUTF(type.name());
+        contentOut.writeInt(arguments.length);
+        for (String value : arguments) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            contentOut.writeInt(bytes.length);
+            contentOut.write(bytes);
+        }
+
+        out.writeShort(MAGIC);
+        out.writeInt(content.size());
+        content.writeTo(out);
+        out.flush();
+    }
+
+    @Override
+    public Pair<RemoteMessage, Object> receiveMessage() throws IOException {
+        int magic = in.readUnsignedShort();
+        if (magic == (ObjectStreamConstants.STREAM_MAGIC & 0xFFFF)) {
+            // Previous versions send the header of the object stream before reading the message
+            throw new LegacyProtocolException();
+        }
+        if (magic != MAGIC) {
+            throw new IOException("Message didn't start with the expected identifier. Got " + magic);
+        }
+        int length = in.readInt();
+        if ((length < 0) || (length > MAXIMUM_FRAME_LENGTH)) {
+            throw new IOException("Invalid message length " + length);
+        }
+        byte[] content = new byte[length];
+        in.readFully(content);
+
+        DataInputStream contentIn = new DataInputStream(new ByteArrayInputStream(content));
+        RemoteMessage type;
+        try {
+            type = RemoteMessage.valueOf(contentIn.readUTF());
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Unknown message type", e);
+        }
+        int count = contentIn.readInt();
+        // Each argument takes at least the four bytes of its length
+        if ((count < 0) || (count > length / 4)) {
+            throw new IOException("Invalid number of arguments " + count);
+        }
+        String[] arguments = new String[count];
+        for (int i = 0; i < count; i++) {
+            int argumentLength = contentIn.readInt();
+            if ((argumentLength < 0) || (argumentLength > contentIn.available())) {
+                throw new IOException("Invalid argument length " + argumentLength);
+            }
+            arguments[i] = new String(contentIn.readNBytes(argumentLength), StandardCharsets.UTF_8);
+        }
+
+        Object argument = switch (type) {
+            case SEND_COMMAND_LINE_ARGUMENTS -> arguments;
+            case PONG -> arguments.length > 0 ? arguments[0] : null;
+            case OK, PING -> null;
+        };
+        return new Pair<>(type, argument);
+    }
+
+    @Override
+    public void close() {
+        try {
+            in.close();
+        } catch (IOException e) {
+            LOGGER.warn("Input stream not closed", e);
+        }
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            LOGGER.debug("Output stream not closed", e);
+        }
+
+        try {
+            socket.close();
+        } catch (IOException e) {
+            LOGGER.debug("Socket not closed", e);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.jabref.logic.remote;
+
+import java.io.IOException;
+
+/**
+ * Thrown by {@link FramedProtocol} when the other side answers with the stream header of the Java serialization,
+ * i.e., it is a JabRef version before the {@link FramedProtocol} and uses {@link Protocol}.
+ */
+public class LegacyProtocolException extends IOException {
+
+    public LegacyProtocolException() {
+        super("The other side uses the protocol of previous JabRef versions");
+    }
+}
@@ -0,0 +1,21 @@
+package org.jabref.logic.remote;
+
+import java.io.IOException;
+
+import javafx.util.Pair;
+
+/**
+ * A connection between {@link org.jabref.logic.remote.client.RemoteClient} and {@link org.jabref.logic.remote.server.RemoteListenerServer},
+ * which exchanges {@link RemoteMessage}s. The type of the content of a message is described at {@link RemoteMessage}.
+ */
+public interface MessageProtocol extends AutoCloseable {
+
+    void sendMessage(RemoteMessage type) throws IOException;
+
+    void sendMessage(RemoteMessage type, Object argument) throws IOException;
+
+    Pair<RemoteMessage, Object> receiveMessage() throws IOException;
+
+    @Override
+    void close();
+}
@@ -1,6 +1,7 @@
 package org.jabref.logic.remote;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.Socket;
@@ -14,10 +15,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * The protocol used by JabRef versions before {@link FramedProtocol}. It is kept to communicate with these versions.
+ *
  * @implNote The first byte of every message identifies its type as a {@link RemoteMessage}.
  * Every message is terminated with '\0'.
  */
-public class Protocol implements AutoCloseable {
+public class Protocol implements MessageProtocol {
     public static final String IDENTIFIER = "jabref";
 
     private static final Logger LOGGER = LoggerFactory.getLogger(Protocol.class);
@@ -27,11 +30,19 @@ public class Protocol implements AutoCloseable {
     private final ObjectInputStream in;
 
     public Protocol(Socket socket) throws IOException {
+        this(socket, socket.getInputStream());
+    }
+
+    /**
+     * @param in the input stream of the socket, e.g., after the server inspected the first bytes to determine the protocol
+     */
+    public Protocol(Socket socket, InputStream in) throws IOException {
         this.socket = socket;
         this.out = new ObjectOutputStream(socket.getOutputStream());
-        this.in = new ObjectInputStream(socket.getInputStream());
+        this.in = new ObjectInputStream(in);
     }
 
+    @Override
     public void sendMessage(RemoteMessage type) throws IOException {
         out.writeObject(type);
         out.writeObject(null);
@@ -39,6 +50,7 @@ public class Protocol implements AutoCloseable {
         out.flush();
     }
 
+    @Override
     public void sendMessage(RemoteMessage type, Object argument) throws IOException {
         out.writeObject(type);
 
@@ -58,6 +70,7 @@ public class Protocol implements AutoCloseable {
         out.flush();
     }
 
+    @Override
     public Pair<RemoteMessage, Object> receiveMessage() throws IOException {
         try {
             RemoteMessage type = (RemoteMessage) in.readObject();
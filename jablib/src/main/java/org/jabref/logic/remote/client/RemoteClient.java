@@ -1,12 +1,18 @@
 package org.jabref.logic.remote.client;
 
+import java.io.EOFException;
 import java.io.IOException;
+import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.net.SocketException;
 
 import javafx.util.Pair;
 
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.remote.FramedProtocol;
+import org.jabref.logic.remote.LegacyProtocolException;
+import org.jabref.logic.remote.MessageProtocol;
 import org.jabref.logic.remote.Protocol;
 import org.jabref.logic.remote.RemoteMessage;
 import org.jabref.logic.remote.RemotePreferences;
@@ -23,14 +29,16 @@ public class RemoteClient {
 
     private final int port;
 
+    // Set as soon as the server turned out to be a JabRef version before the FramedProtocol
+    private boolean useLegacyProtocol;
+
     public RemoteClient(int port) {
         this.port = port;
     }
 
     public boolean ping() {
-        try (Protocol protocol = openNewConnection()) {
-            protocol.sendMessage(RemoteMessage.PING);
-            Pair<RemoteMessage, Object> response = protocol.receiveMessage();
+        try {
+            Pair<RemoteMessage, Object> response = exchange(RemoteMessage.PING, null);
 
             if ((response.getKey() == RemoteMessage.PONG) && Protocol.IDENTIFIER.equals(response.getValue())) {
                 return true;
@@ -53,9 +61,8 @@ public class RemoteClient {
      * @return true if successful, false otherwise.
      */
     public boolean sendCommandLineArguments(String[] args) {
-        try (Protocol protocol = openNewConnection()) {
-            protocol.sendMessage(RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS, args);
-            Pair<RemoteMessage, Object> response = protocol.receiveMessage();
+        try {
+            Pair<RemoteMessage, Object> response = exchange(RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS, args);
             return response.getKey() == RemoteMessage.OK;
         } catch (IOException e) {
             LOGGER.debug("Could not send args {} to the server at port {}", String.join(", ", args), port, e);
@@ -63,10 +70,36 @@ public class RemoteClient {
         }
     }
 
-    private Protocol openNewConnection() throws IOException {
+    /**
+     * Sends the given message and returns the response. If the server turns out to use the {@link Protocol} of previous
+     * JabRef versions, or closes the connection without a response, the message is sent again using that protocol.
+     * Other failures, e.g., an unexpected response of another application, are not retried.
+     */
+    private Pair<RemoteMessage, Object> exchange(RemoteMessage type, Object argument) throws IOException {
+        if (!useLegacyProtocol) {
+            try (MessageProtocol protocol = new FramedProtocol(openNewConnection())) {
+                protocol.sendMessage(type, argument);
+                return protocol.receiveMessage();
+            } catch (ConnectException e) {
+                throw e;
+            } catch (LegacyProtocolException | EOFException | SocketException e) {
+                // Previous versions answer with the header of the object stream and close the connection when receiving a message they cannot deserialize
+                LOGGER.debug("Server at port {} closed the connection, retrying with legacy protocol", port, e);
+            }
+        }
+
+        try (MessageProtocol protocol = new Protocol(openNewConnection())) {
+            protocol.sendMessage(type, argument);
+            Pair<RemoteMessage, Object> response = protocol.receiveMessage();
+            useLegacyProtocol = true;
+            return response;
+        }
+    }
+
+    private Socket openNewConnection() throws IOException {
         Socket socket = new Socket();
         socket.setSoTimeout(TIMEOUT);
         socket.connect(new InetSocketAddress(RemotePreferences.getIpAddress(), port), TIMEOUT);
-        return new Protocol(socket);
+        return socket;
     }
 }
@@ -1,12 +1,21 @@
 package org.jabref.logic.remote.server;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.SocketException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 
 import javafx.util.Pair;
 
+import org.jabref.logic.remote.FramedProtocol;
+import org.jabref.logic.remote.MessageProtocol;
 import org.jabref.logic.remote.Protocol;
 import org.jabref.logic.remote.RemoteMessage;
 import org.jabref.logic.remote.RemotePreferences;
@@ -14,15 +23,33 @@ import org.jabref.logic.remote.RemotePreferences;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Accepts connections of {@link org.jabref.logic.remote.client.RemoteClient}s.
+ * <p>
+ * Each connection is handled by a virtual thread of its own, so that a slow or stalled client does not block others.
+ * Command line arguments are queued and passed to the {@link RemoteMessageHandler} one after another by a single thread,
+ * thus the handler is never called concurrently.
+ * A client receives {@link RemoteMessage#OK} as soon as its arguments were handled.
+ * <p>
+ * Both the {@link FramedProtocol} and the {@link Protocol} of previous JabRef versions are understood.
+ */
 public class RemoteListenerServer implements Runnable {
     private static final Logger LOGGER = LoggerFactory.getLogger(RemoteListenerServer.class);
 
-    private static final int BACKLOG = 1;
+    // Several instances of JabRef may be started at once, e.g., when opening many files in the file manager
+    private static final int BACKLOG = 50;
 
     private static final int TIMEOUT = 1000;
 
     private final RemoteMessageHandler messageHandler;
     private final ServerSocket serverSocket;
+    private final BlockingQueue<QueuedArguments> queuedArguments = new LinkedBlockingQueue<>();
+
+    /**
+     * @param handled completed as soon as the message handler returned
+     */
+    private record QueuedArguments(String[] arguments, CompletableFuture<Void> handled) {
+    }
 
     public RemoteListenerServer(RemoteMessageHandler messageHandler, int port) throws IOException {
         this.serverSocket = new ServerSocket(port, BACKLOG, RemotePreferences.getIpAddress());
@@ -31,33 +58,74 @@ public class RemoteListenerServer implements Runnable {
 
     @Override
     public void run() {
+        Thread dispatcher = Thread.ofPlatform()
+                                  .name("JabRef - Remote Message Dispatcher")
+                                  .daemon()
+                                  .start(this::dispatchArguments);
         try {
             while (!Thread.interrupted()) {
-                try (Socket socket = serverSocket.accept()) {
-                    socket.setSoTimeout(TIMEOUT);
-                    try (Protocol protocol = new Protocol(socket)) {
-                        Pair<RemoteMessage, Object> input = protocol.receiveMessage();
-                        handleMessage(protocol, input.getKey(), input.getValue());
-                    }
+                Socket socket;
+                try {
+                    socket = serverSocket.accept();
                 } catch (SocketException ex) {
                     return;
                 } catch (IOException e) {
-                    LOGGER.warn("RemoteListenerServer crashed", e);
+                    LOGGER.warn("RemoteListenerServer could not accept connection", e);
+                    continue;
                 }
+                Thread.ofVirtual()
+                      .name("JabRef - Remote Connection")
+                      .start(() -> handleConnection(socket));
             }
         } finally {
+            dispatcher.interrupt();
             closeServerSocket();
         }
     }
 
-    private void handleMessage(Protocol protocol, RemoteMessage type, Object argument) throws IOException {
+    private void handleConnection(Socket socket) {
+        try (socket) {
+            socket.setSoTimeout(TIMEOUT);
+            try (MessageProtocol protocol = openProtocol(socket)) {
+                Pair<RemoteMessage, Object> input = protocol.receiveMessage();
+                handleMessage(protocol, input.getKey(), input.getValue());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("RemoteListenerServer could not handle connection", e);
+        }
+    }
+
+    /**
+     * Determines the protocol of the client by the first two bytes, which are {@link FramedProtocol#MAGIC} for clients of the current version
+     */
+    private MessageProtocol openProtocol(Socket socket) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(socket.getInputStream());
+        in.mark(2);
+        int magic = (in.read() << 8) | in.read();
+        in.reset();
+        if (magic == FramedProtocol.MAGIC) {
+            return new FramedProtocol(socket, in);
+        }
+        return new Protocol(socket, in);
+    }
+
+    private void handleMessage(MessageProtocol protocol, RemoteMessage type, Object argument) throws IOException {
         switch (type) {
             case PING:
                 protocol.sendMessage(RemoteMessage.PONG, Protocol.IDENTIFIER);
                 break;
             case SEND_COMMAND_LINE_ARGUMENTS:
                 if (argument instanceof String[] strings) {
-                    messageHandler.handleCommandLineArguments(strings);
+                    CompletableFuture<Void> handled = new CompletableFuture<>();
+                    queuedArguments.add(new QueuedArguments(strings, handled));
+                    try {
+                        handled.get();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new IOException("Interrupted while waiting for command line arguments to be handled", e);
+                    } catch (ExecutionException e) {
+                        throw new IOException("Could not handle command line arguments", e.getCause());
+                    }
                     protocol.sendMessage(RemoteMessage.OK);
                 } else {
                     throw new IOException("Argument for 'SEND_COMMAND_LINE_ARGUMENTS' is not of type String[]. Got " + argument);
@@ -68,6 +136,28 @@ public class RemoteListenerServer implements Runnable {
         }
     }
 
+    /**
+     * Passes the queued command line arguments to the message handler in the order of their arrival until the server is closed
+     */
+    private void dispatchArguments() {
+        try {
+            while (true) {
+                QueuedArguments arguments = queuedArguments.take();
+                try {
+                    messageHandler.handleCommandLineArguments(arguments.arguments());
+                    arguments.handled().complete(null);
+                } catch (RuntimeException e) {
+                    arguments.handled().completeExceptionally(e);
+                }
+            }
+        } catch (InterruptedException e) {
+            // The server was closed, thus the remaining arguments are not handled anymore
+            List<QueuedArguments> remaining = new ArrayList<>();
+            queuedArguments.drainTo(remaining);
+            remaining.forEach(arguments -> arguments.handled().completeExceptionally(new IOException("Server closed")));
+        }
+    }
+
     public void closeServerSocket() {
         try {
             serverSocket.close();
@@ -6,11 +6,14 @@ import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.value.ChangeListener;
@@ -62,7 +65,7 @@ public class IndexManager {
         this.preferencesListener = (observable, oldValue, newValue) -> bindToPreferences(newValue);
         this.shouldIndexLinkedFiles.addListener(preferencesListener);
 
-        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection());
+        bibFieldsIndexer = new BibFieldsIndexer(preferences.getBibEntryPreferences(), databaseContext, postgreServer.getConnection(), postgreServer.isPersistent());
 
         LuceneIndexer indexer;
         try {
@@ -73,7 +76,7 @@ public class IndexManager {
         }
         linkedFilesIndexer = indexer;
 
-        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable());
+        this.bibFieldsSearcher = new BibFieldsSearcher(postgreServer.getConnection(), bibFieldsIndexer.getTable(), bibFieldsIndexer.getIndexIds());
         this.linkedFilesSearcher = new LinkedFilesSearcher(databaseContext, linkedFilesIndexer, preferences.getFilePreferences());
         updateOnStart();
     }
@@ -225,11 +228,25 @@ public class IndexManager {
         return searchResults;
     }
 
+    /**
+     * Searches only within the given entries, using one query for all of them instead of one query per entry.
+     * Used to refresh the matches of changed entries; the results are not stored in the query.
+     */
+    public SearchResults search(SearchQuery query, Collection<BibEntry> entries) {
+        SearchResults searchResults = bibFieldsSearcher.search(query, entries);
+        if (query.getSearchFlags().contains(SearchFlags.FULLTEXT)) {
+            SearchResults fulltextResults = linkedFilesSearcher.search(query);
+            fulltextResults.retainEntries(entries.stream().map(BibEntry::getId).collect(Collectors.toSet()));
+            searchResults.mergeSearchResults(fulltextResults);
+        }
+        return searchResults;
+    }
+
     /**
      * @implNote No need to check for full-text searches as this method only used by the search groups
      */
-    public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
-        return bibFieldsSearcher.isMatched(entry, query);
+    public Set<String> getMatchedEntries(Collection<BibEntry> entries, SearchQuery query) {
+        return bibFieldsSearcher.search(query, entries).getMatchedEntries();
     }
 
     public static void clearOldSearchIndices() {
@@ -1,36 +1,77 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
 
 import javax.sql.DataSource;
 
 import org.jabref.model.search.PostgreConstants;
 
 import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import static org.jabref.model.search.PostgreConstants.BIB_FIELDS_SCHEME;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_PATH;
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
 
 public class PostgreServer {
     private static final Logger LOGGER = LoggerFactory.getLogger(PostgreServer.class);
     private final EmbeddedPostgres embeddedPostgres;
     private final DataSource dataSource;
+    private final boolean persistent;
 
+    /**
+     * Starts a server using a temporary data directory, which is removed on shutdown.
+     */
     public PostgreServer() {
-        EmbeddedPostgres embeddedPostgres;
-        try {
-            embeddedPostgres = EmbeddedPostgres.builder()
-                                               .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
-                                               .start();
-            LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
-        } catch (IOException e) {
-            LOGGER.error("Could not start Postgres server", e);
-            this.embeddedPostgres = null;
-            this.dataSource = null;
-            return;
+        this(null);
+    }
+
+    /**
+     * Starts a server keeping its data in the given directory across restarts.
+     * This enables the bib fields indexes to be reused when a library is opened again.
+     * If the server cannot be started on the given directory (e.g., because it is used by another instance), a temporary data directory is used.
+     *
+     * @param dataDirectory the directory to keep the data in, <code>null</code> for a temporary data directory
+     */
+    public PostgreServer(@Nullable Path dataDirectory) {
+        EmbeddedPostgres embeddedPostgres = null;
+        if (dataDirectory != null) {
+            try {
+                Files.createDirectories(dataDirectory);
+                embeddedPostgres = EmbeddedPostgres.builder()
+                                                   .setDataDirectory(dataDirectory)
+                                                   .setCleanDataDirectory(false)
+                                                   .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                   .start();
+                LOGGER.info("Postgres server started using data directory {}, connection port: {}", dataDirectory, embeddedPostgres.getPort());
+            } catch (IOException e) {
+                LOGGER.warn("Could not start Postgres server using data directory {}, using a temporary one", dataDirectory, e);
+            }
+        }
+        this.persistent = embeddedPostgres != null;
+
+        if (embeddedPostgres == null) {
+            try {
+                embeddedPostgres = EmbeddedPostgres.builder()
+                                                   .setOutputRedirector(ProcessBuilder.Redirect.DISCARD)
+                                                   .start();
+                LOGGER.info("Postgres server started, connection port: {}", embeddedPostgres.getPort());
+            } catch (IOException e) {
+                LOGGER.error("Could not start Postgres server", e);
+                this.embeddedPostgres = null;
+                this.dataSource = null;
+                return;
+            }
         }
 
         this.embeddedPostgres = embeddedPostgres;
@@ -38,20 +79,67 @@ public class PostgreServer {
         addTrigramExtension();
         createScheme();
         addFunctions();
+        if (persistent) {
+            removeIndexesOfMissingLibraries();
+        }
     }
 
     private void createScheme() {
         try (Connection connection = getConnection()) {
             if (connection != null) {
                 LOGGER.debug("Creating scheme for bib fields");
-                connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
-                connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                if (persistent) {
+                    connection.createStatement().execute("CREATE SCHEMA IF NOT EXISTS " + BIB_FIELDS_SCHEME);
+                    connection.createStatement().execute("""
+                            CREATE TABLE IF NOT EXISTS %s (
+                                %s TEXT PRIMARY KEY,
+                                %s TEXT NOT NULL,
+                                %s TEXT
+                            )
+                            """.formatted(
+                            PostgreConstants.getLibraryMetadataSchemaReference(),
+                            TABLE_NAME,
+                            LIBRARY_PATH,
+                            LIBRARY_FINGERPRINT));
+                } else {
+                    connection.createStatement().execute("DROP SCHEMA IF EXISTS " + BIB_FIELDS_SCHEME);
+                    connection.createStatement().execute("CREATE SCHEMA " + BIB_FIELDS_SCHEME);
+                }
             }
         } catch (SQLException e) {
             LOGGER.error("Could not create scheme for bib fields", e);
         }
     }
 
+    /**
+     * Drops the kept indexes of libraries which do not exist anymore
+     */
+    private void removeIndexesOfMissingLibraries() {
+        try (Connection connection = getConnection()) {
+            if (connection == null) {
+                return;
+            }
+            Map<String, String> libraryPaths = new HashMap<>();
+            ResultSet resultSet = connection.createStatement().executeQuery("SELECT %s, %s FROM %s".formatted(TABLE_NAME, LIBRARY_PATH, PostgreConstants.getLibraryMetadataSchemaReference()));
+            while (resultSet.next()) {
+                libraryPaths.put(resultSet.getString(1), resultSet.getString(2));
+            }
+            for (Map.Entry<String, String> libraryPath : libraryPaths.entrySet()) {
+                if (Files.exists(Path.of(libraryPath.getValue()))) {
+                    continue;
+                }
+                String table = libraryPath.getKey();
+                LOGGER.debug("Removing index of missing library {}", libraryPath.getValue());
+                connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + PostgreConstants.getMainTableSchemaReference(table));
+                connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + PostgreConstants.getSplitTableSchemaReference(table));
+                connection.createStatement().executeUpdate("DROP TABLE IF EXISTS " + PostgreConstants.getFingerprintTableSchemaReference(table));
+                connection.createStatement().executeUpdate("DELETE FROM %s WHERE %s = '%s'".formatted(PostgreConstants.getLibraryMetadataSchemaReference(), TABLE_NAME, table));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Could not remove indexes of missing libraries", e);
+        }
+    }
+
     private void addTrigramExtension() {
         try (Connection connection = getConnection()) {
             if (connection != null) {
@@ -87,6 +175,13 @@ public class PostgreServer {
         return null;
     }
 
+    /**
+     * @return <code>true</code> if the data is kept across restarts
+     */
+    public boolean isPersistent() {
+        return persistent;
+    }
+
     public void shutdown() {
         if (embeddedPostgres != null) {
             try {
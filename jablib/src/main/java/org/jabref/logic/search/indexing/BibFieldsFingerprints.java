@@ -0,0 +1,277 @@
+package org.jabref.logic.search.indexing;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.search.PostgreConstants;
+
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jabref.model.search.PostgreConstants.ENTRY_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.ENTRY_ID;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_FINGERPRINT;
+import static org.jabref.model.search.PostgreConstants.LIBRARY_PATH;
+import static org.jabref.model.search.PostgreConstants.TABLE_NAME;
+
+/**
+ * Keeps track of the content the rows of the bib fields index are derived from, so that the index of a library can be reused in the next session.
+ * <p>
+ * Each indexed entry has a fingerprint (a hash of its type and fields, including the fields of its cross-referenced entry).
+ * As entry ids are only valid during a session, the entries of the new session are mapped to the stored rows by matching the fingerprints
+ * (see {@link BibFieldsIndexIds}).
+ * Library-wide settings influencing the rows (e.g., the string constants) are covered by a library fingerprint; if it differs, the index is rebuilt.
+ */
+public class BibFieldsFingerprints {
+    /**
+     * Has to be increased whenever the rows stored for an entry change (e.g., a different normalization)
+     */
+    private static final String INDEX_FORMAT_VERSION = "1";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsFingerprints.class);
+
+    private final BibDatabase database;
+    private final Connection connection;
+    private final Path libraryPath;
+    private final BibFieldsIndexIds indexIds;
+    private final String mainTable;
+    private final Character keywordSeparator;
+    private final String schemaFingerprintTableReference;
+    private final List<String> schemaTableReferences;
+
+    public BibFieldsFingerprints(BibDatabase database, Connection connection, Path libraryPath, BibFieldsIndexIds indexIds, String mainTable, Character keywordSeparator) {
+        this.database = database;
+        this.connection = connection;
+        this.libraryPath = libraryPath;
+        this.indexIds = indexIds;
+        this.mainTable = mainTable;
+        this.keywordSeparator = keywordSeparator;
+        this.schemaFingerprintTableReference = PostgreConstants.getFingerprintTableSchemaReference(mainTable);
+        this.schemaTableReferences = List.of(
+                PostgreConstants.getMainTableSchemaReference(mainTable),
+                PostgreConstants.getSplitTableSchemaReference(mainTable),
+                schemaFingerprintTableReference);
+    }
+
+    /**
+     * @return the name of the table keeping the index of the library at the given path
+     */
+    public static String getTableName(Path libraryPath) {
+        return Hashing.sha256().hashString(libraryPath.toAbsolutePath().normalize().toString(), StandardCharsets.UTF_8).toString().substring(0, 24);
+    }
+
+    public void setup() {
+        try {
+            connection.createStatement().executeUpdate("""
+                    CREATE TABLE IF NOT EXISTS %s (
+                        %s TEXT PRIMARY KEY,
+                        %s TEXT NOT NULL
+                    )
+                    """.formatted(
+                    schemaFingerprintTableReference,
+                    ENTRY_ID,
+                    ENTRY_FINGERPRINT));
+        } catch (SQLException e) {
+            LOGGER.error("Could not create fingerprint table for library: {}", libraryPath, e);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the stored index was built with the current library-wide settings
+     */
+    public boolean isLibraryUpToDate() {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                SELECT %s FROM %s WHERE %s = ?
+                """.formatted(LIBRARY_FINGERPRINT, PostgreConstants.getLibraryMetadataSchemaReference(), TABLE_NAME))) {
+            preparedStatement.setString(1, mainTable);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            return resultSet.next() && getLibraryFingerprint().equals(resultSet.getString(1));
+        } catch (SQLException e) {
+            LOGGER.error("Could not read fingerprint of library: {}", libraryPath, e);
+            return false;
+        }
+    }
+
+    public void markLibraryUpToDate() {
+        storeLibraryFingerprint(getLibraryFingerprint());
+    }
+
+    /**
+     * Marks the stored index as not reusable, e.g., while it is rebuilt
+     */
+    public void markLibraryOutdated() {
+        storeLibraryFingerprint(null);
+    }
+
+    private void storeLibraryFingerprint(String fingerprint) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                INSERT INTO %s (%s, %s, %s)
+                VALUES (?, ?, ?)
+                ON CONFLICT (%s)
+                DO UPDATE SET %s = EXCLUDED.%s, %s = EXCLUDED.%s
+                """.formatted(
+                PostgreConstants.getLibraryMetadataSchemaReference(),
+                TABLE_NAME, LIBRARY_PATH, LIBRARY_FINGERPRINT,
+                TABLE_NAME,
+                LIBRARY_PATH, LIBRARY_PATH,
+                LIBRARY_FINGERPRINT, LIBRARY_FINGERPRINT))) {
+            preparedStatement.setString(1, mainTable);
+            preparedStatement.setString(2, libraryPath.toAbsolutePath().toString());
+            preparedStatement.setString(3, fingerprint);
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("Could not store fingerprint of library: {}", libraryPath, e);
+        }
+    }
+
+    /**
+     * Removes all rows of the index of the library
+     */
+    public void clear() {
+        for (String table : schemaTableReferences) {
+            try {
+                connection.createStatement().executeUpdate("TRUNCATE " + table);
+            } catch (SQLException e) {
+                LOGGER.error("Could not clear table {}", table, e);
+            }
+        }
+    }
+
+    /**
+     * Maps the given entries to the stored rows having the same fingerprint and removes the rows of all other stored entries.
+     * The rows of the reused entries are not written.
+     *
+     * @return the entries which need to be indexed, because no stored rows match their content
+     */
+    public List<BibEntry> reuseIndexedEntries(Collection<BibEntry> entries) throws SQLException {
+        Map<String, Deque<String>> storedIdsByFingerprint = new HashMap<>();
+        try (ResultSet resultSet = connection.createStatement().executeQuery("""
+                SELECT %s, %s FROM %s
+                """.formatted(ENTRY_ID, ENTRY_FINGERPRINT, schemaFingerprintTableReference))) {
+            while (resultSet.next()) {
+                storedIdsByFingerprint.computeIfAbsent(resultSet.getString(2), k -> new ArrayDeque<>()).add(resultSet.getString(1));
+            }
+        }
+
+        List<BibEntry> entriesToIndex = new ArrayList<>();
+        for (BibEntry entry : entries) {
+            Optional<String> storedId = Optional.ofNullable(storedIdsByFingerprint.get(getEntryFingerprint(entry)))
+                                                .map(Deque::poll);
+            if (storedId.isPresent()) {
+                indexIds.assign(entry, storedId.get());
+            } else {
+                entriesToIndex.add(entry);
+            }
+        }
+
+        List<String> unmatchedIds = storedIdsByFingerprint.values().stream()
+                                                          .flatMap(Collection::stream)
+                                                          .toList();
+        removeStoredRows(unmatchedIds);
+        LOGGER.debug("Reused index of {} entries, removed {} stored entries, {} entries need to be indexed", entries.size() - entriesToIndex.size(), unmatchedIds.size(), entriesToIndex.size());
+        return entriesToIndex;
+    }
+
+    private void removeStoredRows(List<String> storedIds) throws SQLException {
+        if (storedIds.isEmpty()) {
+            return;
+        }
+        connection.setAutoCommit(false);
+        try {
+            for (String table : schemaTableReferences) {
+                try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                        DELETE FROM %s WHERE %s = ANY(?)
+                        """.formatted(table, ENTRY_ID))) {
+                    preparedStatement.setArray(1, connection.createArrayOf("text", storedIds.toArray()));
+                    preparedStatement.executeUpdate();
+                }
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Stores the fingerprints of the given (freshly indexed) entries
+     *
+     * @return true if the fingerprints were stored
+     */
+    public boolean store(Collection<BibEntry> entries) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                INSERT INTO %s (%s, %s)
+                VALUES (?, ?)
+                ON CONFLICT (%s)
+                DO UPDATE SET %s = EXCLUDED.%s
+                """.formatted(
+                schemaFingerprintTableReference,
+                ENTRY_ID, ENTRY_FINGERPRINT,
+                ENTRY_ID,
+                ENTRY_FINGERPRINT, ENTRY_FINGERPRINT))) {
+            for (BibEntry entry : entries) {
+                preparedStatement.setString(1, indexIds.getIndexId(entry));
+                preparedStatement.setString(2, getEntryFingerprint(entry));
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+            return true;
+        } catch (SQLException e) {
+            LOGGER.error("Could not store fingerprints of entries", e);
+            return false;
+        }
+    }
+
+    public void remove(BibEntry entry) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement("""
+                DELETE FROM %s WHERE %s = ?
+                """.formatted(schemaFingerprintTableReference, ENTRY_ID))) {
+            preparedStatement.setString(1, indexIds.getIndexId(entry));
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            LOGGER.error("Could not remove fingerprint of entry {}", entry.getId(), e);
+        }
+    }
+
+    String getEntryFingerprint(BibEntry entry) {
+        StringBuilder content = new StringBuilder(entry.getType().getName());
+        appendFields(content, entry);
+        // Fields of the cross-referenced entry are indexed as well
+        database.getReferencedEntry(entry).ifPresent(referencedEntry -> appendFields(content, referencedEntry));
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+
+    private static void appendFields(StringBuilder content, BibEntry entry) {
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Map.Entry.comparingByKey(Comparator.comparing(Field::getName)))
+             .forEach(field -> content.append('\u0000').append(field.getKey().getName()).append('\u0001').append(field.getValue()));
+    }
+
+    String getLibraryFingerprint() {
+        StringBuilder content = new StringBuilder(INDEX_FORMAT_VERSION).append('\u0000').append(keywordSeparator);
+        database.getStringValues().stream()
+                .sorted(Comparator.comparing(BibtexString::getName))
+                .forEach(string -> content.append('\u0000').append(string.getName()).append('\u0001').append(string.getContent()));
+        return Hashing.sha256().hashString(content, StandardCharsets.UTF_8).toString();
+    }
+}
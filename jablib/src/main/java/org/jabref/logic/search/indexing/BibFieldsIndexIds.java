@@ -0,0 +1,88 @@
+package org.jabref.logic.search.indexing;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.entry.BibEntry;
+
+import io.github.thibaultmeyer.cuid.CUID;
+
+/**
+ * Maps the entries of the current session to the ids of their rows in the bib fields index.
+ * <p>
+ * Entry ids are only valid during a session. Thus, the rows of an index kept across sessions keep the id they were stored with,
+ * and the entries of a new session are mapped to these ids by {@link BibFieldsFingerprints#reuseIndexedEntries}. This avoids rewriting
+ * the rows on each start. Entries indexed during the session get a new random id, which cannot collide with ids of previous sessions.
+ * <p>
+ * For an index used during a single session only, the rows use the ids of the entries.
+ */
+public class BibFieldsIndexIds {
+    private final boolean keptAcrossSessions;
+    private final Map<String, String> indexIdsByEntryId = new ConcurrentHashMap<>();
+    private final Map<String, String> entryIdsByIndexId = new ConcurrentHashMap<>();
+
+    private BibFieldsIndexIds(boolean keptAcrossSessions) {
+        this.keptAcrossSessions = keptAcrossSessions;
+    }
+
+    public static BibFieldsIndexIds ofEntryIds() {
+        return new BibFieldsIndexIds(false);
+    }
+
+    public static BibFieldsIndexIds keptAcrossSessions() {
+        return new BibFieldsIndexIds(true);
+    }
+
+    /**
+     * Returns the id of the rows of the given entry. A new id is assigned if the entry has none yet.
+     */
+    public String getIndexId(BibEntry entry) {
+        if (!keptAcrossSessions) {
+            return entry.getId();
+        }
+        return indexIdsByEntryId.computeIfAbsent(entry.getId(), entryId -> {
+            String indexId = CUID.randomCUID2(24).toString();
+            entryIdsByIndexId.put(indexId, entryId);
+            return indexId;
+        });
+    }
+
+    /**
+     * Returns the id of the rows of the given entry without assigning a new one, e.g., to search among entries which might not be indexed yet
+     */
+    public Optional<String> findIndexId(String entryId) {
+        if (!keptAcrossSessions) {
+            return Optional.of(entryId);
+        }
+        return Optional.ofNullable(indexIdsByEntryId.get(entryId));
+    }
+
+    /**
+     * Returns the id of the entry the rows with the given id belong to. Empty for rows not belonging to an entry of the current session.
+     */
+    public Optional<String> findEntryId(String indexId) {
+        if (!keptAcrossSessions) {
+            return Optional.of(indexId);
+        }
+        return Optional.ofNullable(entryIdsByIndexId.get(indexId));
+    }
+
+    /**
+     * Assigns stored rows to the given entry
+     */
+    void assign(BibEntry entry, String indexId) {
+        indexIdsByEntryId.put(entry.getId(), indexId);
+        entryIdsByIndexId.put(indexId, entry.getId());
+    }
+
+    /**
+     * Forgets the id of the rows of the given entry after they were removed
+     */
+    void remove(BibEntry entry) {
+        String indexId = indexIdsByEntryId.remove(entry.getId());
+        if (indexId != null) {
+            entryIdsByIndexId.remove(indexId);
+        }
+    }
+}
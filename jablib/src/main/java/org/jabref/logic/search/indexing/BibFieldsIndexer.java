@@ -1,13 +1,21 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Pattern;
 
 import org.jabref.logic.l10n.Localization;
@@ -25,6 +33,9 @@ import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.PostgreConstants;
 
 import io.github.thibaultmeyer.cuid.CUID;
+import org.jspecify.annotations.Nullable;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,6 +51,7 @@ public class BibFieldsIndexer {
     private static final LatexToUnicodeFormatter LATEX_TO_UNICODE_FORMATTER = new LatexToUnicodeFormatter();
     private static final Pattern GROUPS_SEPARATOR_REGEX = Pattern.compile("\s*,\s*");
     private static final Set<Field> DATE_FIELDS = Set.of(StandardField.DATE, StandardField.YEAR, StandardField.MONTH, StandardField.DAY);
+    private static final int DEFAULT_BATCH_SIZE = 1000;
 
     private final BibDatabaseContext databaseContext;
     private final Connection connection;
@@ -49,15 +61,42 @@ public class BibFieldsIndexer {
     private final String splitValuesTable;
     private final String schemaSplitValuesTableReference;
     private final Character keywordSeparator;
+    private final int batchSize;
+    private final BibFieldsIndexIds indexIds;
+    @Nullable private final BibFieldsFingerprints fingerprints;
 
     public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection) {
+        this(bibEntryPreferences, databaseContext, connection, false);
+    }
+
+    /**
+     * @param keepAcrossSessions if the index of a saved library should be kept when closing it, so that it can be reused when opening the library again
+     */
+    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection, boolean keepAcrossSessions) {
+        this(bibEntryPreferences, databaseContext, connection, DEFAULT_BATCH_SIZE, keepAcrossSessions);
+    }
+
+    /**
+     * @param batchSize          the number of entries written to the database at once when loading the library into the index
+     * @param keepAcrossSessions if the index of a saved library should be kept when closing it, so that it can be reused when opening the library again
+     */
+    public BibFieldsIndexer(BibEntryPreferences bibEntryPreferences, BibDatabaseContext databaseContext, Connection connection, int batchSize, boolean keepAcrossSessions) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
         this.databaseContext = databaseContext;
         this.connection = connection;
+        this.batchSize = batchSize;
         this.keywordSeparator = bibEntryPreferences.getKeywordSeparator();
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
 
-        this.mainTable = CUID.randomCUID2(12).toString();
+        Optional<Path> libraryPath = databaseContext.getDatabasePath().filter(path -> keepAcrossSessions);
+        this.mainTable = libraryPath.map(BibFieldsFingerprints::getTableName)
+                                    .orElseGet(() -> CUID.randomCUID2(12).toString());
         this.splitValuesTable = mainTable + SPLIT_TABLE_SUFFIX;
+        this.indexIds = libraryPath.isPresent() ? BibFieldsIndexIds.keptAcrossSessions() : BibFieldsIndexIds.ofEntryIds();
+        this.fingerprints = libraryPath.map(path -> new BibFieldsFingerprints(databaseContext.getDatabase(), connection, path, indexIds, mainTable, keywordSeparator))
+                                       .orElse(null);
 
         this.schemaMainTableReference = PostgreConstants.getMainTableSchemaReference(mainTable);
         this.schemaSplitValuesTableReference = PostgreConstants.getSplitTableSchemaReference(mainTable);
@@ -66,7 +105,9 @@ public class BibFieldsIndexer {
     }
 
     /**
-     * Creates a table for the library in the database, and sets up indexes on the columns.
+     * Creates a table for the library in the database.
+     * The indexes on the columns are created by {@link #createIndexes()} after the initial load of the entries,
+     * because building them once on the filled tables is much faster than maintaining them row by row.
      */
     private void setup() {
         try {
@@ -100,10 +141,20 @@ public class BibFieldsIndexer {
                     FIELD_VALUE_LITERAL,
                     FIELD_VALUE_TRANSFORMED));
 
+            if (fingerprints != null) {
+                fingerprints.setup();
+            }
+
             LOGGER.debug("Created tables for library: {}", libraryName);
         } catch (SQLException e) {
             LOGGER.error("Could not create tables for library: {}", libraryName, e);
         }
+    }
+
+    /**
+     * Sets up indexes on the columns. Existing indexes are kept.
+     */
+    private void createIndexes() {
         try {
             // region btree index on id column
             connection.createStatement().executeUpdate("""
@@ -154,14 +205,190 @@ public class BibFieldsIndexer {
                     FIELD_VALUE_LITERAL, FIELD_VALUE_TRANSFORMED));
             // endregion
 
+            // Update the planner statistics after the bulk load
+            connection.createStatement().executeUpdate("ANALYZE " + schemaMainTableReference);
+            connection.createStatement().executeUpdate("ANALYZE " + schemaSplitValuesTableReference);
+
             LOGGER.debug("Created indexes for library: {}", libraryName);
         } catch (SQLException e) {
             LOGGER.error("Could not create indexes for library: {}", libraryName, e);
         }
     }
 
+    /**
+     * Drops the indexes created by {@link #createIndexes()}, so that they do not need to be maintained while the tables are filled
+     */
+    private void dropIndexes() {
+        List<String> indexNames = List.of(
+                "%s_%s_index".formatted(mainTable, ENTRY_ID),
+                "%s_%s_index".formatted(splitValuesTable, ENTRY_ID),
+                "%s_%s_index".formatted(mainTable, FIELD_NAME),
+                "%s_%s_index".formatted(splitValuesTable, FIELD_NAME),
+                "%s_%s_index".formatted(mainTable, FIELD_VALUE_LITERAL),
+                "%s_%s_index".formatted(splitValuesTable, FIELD_VALUE_LITERAL));
+        for (String indexName : indexNames) {
+            try {
+                connection.createStatement().executeUpdate("""
+                        DROP INDEX IF EXISTS %s."%s"
+                        """.formatted(PostgreConstants.BIB_FIELDS_SCHEME, indexName));
+            } catch (SQLException e) {
+                LOGGER.warn("Could not drop index {} for library: {}", indexName, libraryName, e);
+            }
+        }
+    }
+
+    /**
+     * Loads all entries of the library into the tables and creates the indexes afterwards.
+     * If the index is kept across sessions, only the entries changed since the last session are indexed.
+     */
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        List<BibEntry> entries = List.copyOf(databaseContext.getDatabase().getEntries());
+        if (fingerprints == null) {
+            bulkAddToIndex(entries, task);
+        } else {
+            updateKeptIndexOnStart(entries, task);
+        }
+        createIndexes();
+    }
+
+    private void updateKeptIndexOnStart(List<BibEntry> entries, BackgroundTask<?> task) {
+        if (fingerprints.isLibraryUpToDate()) {
+            try {
+                List<BibEntry> entriesToIndex = fingerprints.reuseIndexedEntries(entries);
+                // Rows added without their fingerprints could not be matched in the next session, thus the index is rebuilt then if the load does not complete
+                fingerprints.markLibraryOutdated();
+                bulkAddToIndex(entriesToIndex, task);
+                if (!task.isCancelled() && fingerprints.store(entriesToIndex)) {
+                    fingerprints.markLibraryUpToDate();
+                }
+                return;
+            } catch (SQLException e) {
+                LOGGER.warn("Could not reuse index of library {}, rebuilding it", libraryName, e);
+            }
+        }
+
+        LOGGER.debug("Rebuilding index of library {}", libraryName);
+        fingerprints.markLibraryOutdated();
+        fingerprints.clear();
+        // The indexes of the previous session are created again after the bulk load
+        dropIndexes();
+        bulkAddToIndex(entries, task);
+        if (!task.isCancelled() && fingerprints.store(entries)) {
+            fingerprints.markLibraryUpToDate();
+        }
+    }
+
+    /**
+     * Adds the entries using PostgreSQL's <code>COPY</code> protocol, which is considerably faster than inserting row by row.
+     * If <code>COPY</code> is not available, the entries are added row by row.
+     * <p>
+     * The entries are processed in chunks of {@link #batchSize} entries.
+     * The rows of the chunks (latex to unicode conversion, splitting of authors and keywords) are computed in parallel,
+     * whereas the calling thread is the only one using the connection: it copies the chunks in their original order.
+     * At most one chunk per processor is computed ahead, which bounds the memory usage.
+     */
+    private void bulkAddToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        CopyManager copyManager;
+        try {
+            copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        } catch (SQLException e) {
+            LOGGER.warn("Bulk load not supported by connection, adding entries one by one", e);
+            addToIndex(entries, task);
+            return;
+        }
+
+        List<BibEntry> entriesToAdd = List.copyOf(entries);
+        if (entriesToAdd.size() > 1) {
+            task.showToUser(true);
+            task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
+        }
+
+        long startTime = System.currentTimeMillis();
+        LOGGER.debug("Bulk loading {} entries into index", entriesToAdd.size());
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        Deque<PendingChunk> pendingChunks = new ArrayDeque<>(parallelism);
+        int added = 0;
+        int from = 0;
+        while (from < entriesToAdd.size() || !pendingChunks.isEmpty()) {
+            if (task.isCancelled()) {
+                LOGGER.debug("Indexing canceled");
+                pendingChunks.forEach(pendingChunk -> pendingChunk.rows().cancel(true));
+                return;
+            }
+            if (from < entriesToAdd.size() && pendingChunks.size() < parallelism) {
+                List<BibEntry> chunk = entriesToAdd.subList(from, Math.min(from + batchSize, entriesToAdd.size()));
+                pendingChunks.add(new PendingChunk(chunk, HeadlessExecutorService.INSTANCE.execute(() -> collectCopyRows(chunk))));
+                from += chunk.size();
+                continue;
+            }
+
+            PendingChunk pendingChunk = pendingChunks.poll();
+            try {
+                copyChunk(copyManager, pendingChunk.entries(), pendingChunk.rows().get());
+            } catch (InterruptedException e) {
+                LOGGER.debug("Indexing interrupted");
+                pendingChunks.forEach(chunk -> chunk.rows().cancel(true));
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                LOGGER.warn("Could not compute rows of {} entries, adding them one by one", pendingChunk.entries().size(), e);
+                pendingChunk.entries().forEach(this::addToIndex);
+            }
+            added += pendingChunk.entries().size();
+            long elapsed = Math.max(1, System.currentTimeMillis() - startTime);
+            task.updateProgress(added, entriesToAdd.size());
+            task.updateMessage(Localization.lang("%0 of %1 entries added to the index (%2 entries/s).", added, entriesToAdd.size(), added * 1000L / elapsed));
+        }
+        LOGGER.debug("Bulk loaded {} entries into index in {} ms", entriesToAdd.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Computes the rows of the given entries in the text format of PostgreSQL's <code>COPY</code> command.
+     * Does not access the connection and can thus run on any thread.
+     */
+    private CopyRows collectCopyRows(List<BibEntry> entries) {
+        StringBuilder mainTableRows = new StringBuilder();
+        StringBuilder splitValuesRows = new StringBuilder();
+        RowConsumer mainTableRow = copyRow(mainTableRows);
+        RowConsumer splitValuesRow = copyRow(splitValuesRows);
+        for (BibEntry entry : entries) {
+            collectRows(entry, mainTableRow, splitValuesRow);
+        }
+        return new CopyRows(mainTableRows.toString(), splitValuesRows.toString());
+    }
+
+    /**
+     * Copies the rows of both tables in one transaction, so that the rows of an entry are either complete or missing
+     */
+    private void copyChunk(CopyManager copyManager, List<BibEntry> entries, CopyRows rows) {
+        try {
+            connection.setAutoCommit(false);
+            try {
+                copyManager.copyIn(copyIntoTableQuery(schemaMainTableReference), new StringReader(rows.mainTableRows()));
+                copyManager.copyIn(copyIntoTableQuery(schemaSplitValuesTableReference), new StringReader(rows.splitValuesRows()));
+                connection.commit();
+            } catch (SQLException | IOException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException | IOException e) {
+            // The transaction was rolled back, thus nothing was inserted and we can safely retry row by row
+            LOGGER.warn("Could not bulk load {} entries, adding them one by one", entries.size(), e);
+            entries.forEach(this::addToIndex);
+        }
+    }
+
+    private static String copyIntoTableQuery(String schemaTableReference) {
+        return """
+                COPY %s ("%s", "%s", "%s", "%s") FROM STDIN
+                """.formatted(
+                schemaTableReference,
+                ENTRY_ID,
+                FIELD_NAME,
+                FIELD_VALUE_LITERAL,
+                FIELD_VALUE_TRANSFORMED);
     }
 
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
@@ -208,56 +435,65 @@ public class BibFieldsIndexer {
 
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertFieldQuery);
              PreparedStatement preparedStatementSplitValues = connection.prepareStatement(insertIntoSplitTable)) {
-            String entryId = bibEntry.getId();
-            for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
-                Field field = fieldPair.getKey();
-                String value = fieldPair.getValue();
-
-                // If a field exists, there also exists a resolved field latex free.
-                // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
-                // To uncover these flaws, we add the "assert" statement.
-                // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
-                // Skip indexing of date-related fields separately to ensure proper handling later in the process.
-                if (!DATE_FIELDS.contains(field)) {
-                    Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
-                    assert resolvedFieldLatexFree.isPresent();
-                    addBatch(preparedStatement, entryId, field, value, resolvedFieldLatexFree.orElse(""));
-                }
-                // region Handling of known multi-value fields
-                // split and convert to Unicode
-                if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                    addAuthors(value, preparedStatementSplitValues, entryId, field);
-                } else if (field == StandardField.KEYWORDS) {
-                    addKeywords(value, preparedStatementSplitValues, entryId, field, keywordSeparator);
-                } else if (field == StandardField.GROUPS) {
-                    addGroups(value, preparedStatementSplitValues, entryId, field);
-                } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                    addEntryLinks(bibEntry, field, preparedStatementSplitValues, entryId);
-                } else if (field == StandardField.FILE) {
-                    // No handling of File, because due to relative paths, we think, there won't be any exact match operation
-                    // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
-                    // The use case to search for file names seems pretty seldom, therefore we omit it.
-                } else {
-                    // No other multi-value fields are known
-                    // No action needed -> main table has the value
-                }
-                // endregion
-            }
-            // ensure all date-related fields are indexed.
-            for (Field dateField : DATE_FIELDS) {
-                Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
-            }
-            // add entry type
-            addBatch(preparedStatement, entryId, TYPE_HEADER, bibEntry.getType().getName());
-
+            collectRows(bibEntry, batchRow(preparedStatement), batchRow(preparedStatementSplitValues));
             preparedStatement.executeBatch();
             preparedStatementSplitValues.executeBatch();
+            if (fingerprints != null) {
+                fingerprints.store(List.of(bibEntry));
+            }
         } catch (SQLException e) {
             LOGGER.error("Could not add an entry to the index.", e);
         }
     }
 
+    /**
+     * Computes the rows of the given entry for the main table and the split values table
+     */
+    private void collectRows(BibEntry bibEntry, RowConsumer mainTableRow, RowConsumer splitValuesRow) {
+        String entryId = indexIds.getIndexId(bibEntry);
+        for (Map.Entry<Field, String> fieldPair : bibEntry.getFieldMap().entrySet()) {
+            Field field = fieldPair.getKey();
+            String value = fieldPair.getValue();
+
+            // If a field exists, there also exists a resolved field latex free.
+            // We add a `.orElse("")` only because there could be some flaw in the future in the code - and we want to have search working even if the flaws are present.
+            // To uncover these flaws, we add the "assert" statement.
+            // One potential future flaw is that the bibEntry is modified concurrently and the field being deleted.
+            // Skip indexing of date-related fields separately to ensure proper handling later in the process.
+            if (!DATE_FIELDS.contains(field)) {
+                Optional<String> resolvedFieldLatexFree = bibEntry.getResolvedFieldOrAliasLatexFree(field, this.databaseContext.getDatabase());
+                assert resolvedFieldLatexFree.isPresent();
+                mainTableRow.accept(entryId, field, value, resolvedFieldLatexFree.orElse(""));
+            }
+            // region Handling of known multi-value fields
+            // split and convert to Unicode
+            if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+                addAuthors(value, splitValuesRow, entryId, field);
+            } else if (field == StandardField.KEYWORDS) {
+                addKeywords(value, splitValuesRow, entryId, field, keywordSeparator);
+            } else if (field == StandardField.GROUPS) {
+                addGroups(value, splitValuesRow, entryId, field);
+            } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
+                addEntryLinks(bibEntry, field, splitValuesRow, entryId);
+            } else if (field == StandardField.FILE) {
+                // No handling of File, because due to relative paths, we think, there won't be any exact match operation
+                // We could add the filename itself (with and without extension). However, the user can also use regular expressions to achieve the same.
+                // The use case to search for file names seems pretty seldom, therefore we omit it.
+            } else {
+                // No other multi-value fields are known
+                // No action needed -> main table has the value
+            }
+            // endregion
+        }
+        // ensure all date-related fields are indexed.
+        for (Field dateField : DATE_FIELDS) {
+            Optional<String> resolvedDateValue = bibEntry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
+            resolvedDateValue.ifPresent(dateValue -> mainTableRow.accept(entryId, dateField, dateValue));
+        }
+        // add entry type
+        mainTableRow.accept(entryId, TYPE_HEADER, bibEntry.getType().getName());
+    }
+
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
             task.showToUser(true);
@@ -278,14 +514,19 @@ public class BibFieldsIndexer {
 
     private void removeFromIndex(BibEntry entry) {
         try {
+            String entryId = indexIds.getIndexId(entry);
             connection.createStatement().executeUpdate("""
                     DELETE FROM %s
                     WHERE "%s" = '%s'
-                    """.formatted(schemaMainTableReference, ENTRY_ID, entry.getId()));
+                    """.formatted(schemaMainTableReference, ENTRY_ID, entryId));
             connection.createStatement().executeUpdate("""
                     DELETE FROM %s
                     WHERE "%s" = '%s'
-                    """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId()));
+                    """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entryId));
+            if (fingerprints != null) {
+                fingerprints.remove(entry);
+            }
+            indexIds.remove(entry);
             LOGGER.debug("Entry {} removed from index", entry.getId());
         } catch (SQLException e) {
             LOGGER.error("Error deleting entry from index", e);
@@ -296,6 +537,9 @@ public class BibFieldsIndexer {
         synchronized (entry.getId()) {
             removeField(entry, field);
             insertField(entry, field);
+            if (fingerprints != null) {
+                fingerprints.store(List.of(entry));
+            }
         }
     }
 
@@ -328,12 +572,13 @@ public class BibFieldsIndexer {
                 FIELD_VALUE_LITERAL, FIELD_VALUE_LITERAL,
                 FIELD_VALUE_TRANSFORMED, FIELD_VALUE_TRANSFORMED);
 
-        String entryId = entry.getId();
+        String entryId = indexIds.getIndexId(entry);
         if (DATE_FIELDS.contains(field)) {
             try (PreparedStatement preparedStatement = connection.prepareStatement(insertDateFieldQuery)) {
+                RowConsumer mainTableRow = batchRow(preparedStatement);
                 for (Field dateField : DATE_FIELDS) {
                     Optional<String> resolvedDateValue = entry.getResolvedFieldOrAlias(dateField, this.databaseContext.getDatabase());
-                    resolvedDateValue.ifPresent(dateValue -> addBatch(preparedStatement, entryId, dateField, dateValue));
+                    resolvedDateValue.ifPresent(dateValue -> mainTableRow.accept(entryId, dateField, dateValue));
                 }
                 preparedStatement.executeBatch();
             } catch (SQLException e) {
@@ -365,14 +610,15 @@ public class BibFieldsIndexer {
         try (PreparedStatement preparedStatement = connection.prepareStatement(insertIntoSplitTable)) {
             String value = entry.getField(field).orElse("");
 
+            RowConsumer splitValuesRow = batchRow(preparedStatement);
             if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-                addAuthors(value, preparedStatement, entryId, field);
+                addAuthors(value, splitValuesRow, entryId, field);
             } else if (field == StandardField.KEYWORDS) {
-                addKeywords(value, preparedStatement, entryId, field, keywordSeparator);
+                addKeywords(value, splitValuesRow, entryId, field, keywordSeparator);
             } else if (field == StandardField.GROUPS) {
-                addGroups(value, preparedStatement, entryId, field);
+                addGroups(value, splitValuesRow, entryId, field);
             } else if (field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
-                addEntryLinks(entry, field, preparedStatement, entryId);
+                addEntryLinks(entry, field, splitValuesRow, entryId);
             } else if (field == StandardField.FILE) {
                 // No handling of File, because due to relative paths, we think, there won't be any exact match operation
             }
@@ -384,14 +630,15 @@ public class BibFieldsIndexer {
 
     private void removeField(BibEntry entry, Field field) {
         try {
+            String entryId = indexIds.getIndexId(entry);
             connection.createStatement().executeUpdate("""
                     DELETE FROM %s
                     WHERE "%s" = '%s' AND "%s" = '%s'
-                    """.formatted(schemaMainTableReference, ENTRY_ID, entry.getId(), FIELD_NAME, field.getName()));
+                    """.formatted(schemaMainTableReference, ENTRY_ID, entryId, FIELD_NAME, field.getName()));
             connection.createStatement().executeUpdate("""
                     DELETE FROM %s
                     WHERE "%s" = '%s' AND "%s" = '%s'
-                    """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entry.getId(), FIELD_NAME, field.getName()));
+                    """.formatted(schemaSplitValuesTableReference, ENTRY_ID, entryId, FIELD_NAME, field.getName()));
             LOGGER.debug("Field {} removed from entry {} in index", field.getName(), entry.getId());
         } catch (SQLException e) {
             LOGGER.error("Error deleting field from entry in index", e);
@@ -409,6 +656,11 @@ public class BibFieldsIndexer {
     private void closeIndex() {
         try {
             LOGGER.debug("Closing connection to Postgres server for library: {}", libraryName);
+            if (fingerprints != null) {
+                // The index is kept for the next session
+                connection.close();
+                return;
+            }
             connection.createStatement().executeUpdate("""
                         DROP TABLE IF EXISTS %s
                         """.formatted(schemaMainTableReference));
@@ -425,39 +677,75 @@ public class BibFieldsIndexer {
         return mainTable;
     }
 
-    private void addEntryLinks(BibEntry bibEntry, Field field, PreparedStatement preparedStatementSplitValues, String entryId) {
+    /**
+     * Returns the mapping of the entries to the ids used in the rows of the index, which is required to search the index
+     */
+    public BibFieldsIndexIds getIndexIds() {
+        return indexIds;
+    }
+
+    private void addEntryLinks(BibEntry bibEntry, Field field, RowConsumer splitValuesRow, String entryId) {
         bibEntry.getEntryLinkList(field, databaseContext.getDatabase()).stream()
             .distinct()
-            .forEach(link -> addBatch(preparedStatementSplitValues, entryId, field, link.getKey()));
+            .forEach(link -> splitValuesRow.accept(entryId, field, link.getKey()));
     }
 
-    private static void addGroups(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addGroups(String value, RowConsumer splitValuesRow, String entryId, Field field) {
         // We could use KeywordList, but we are afraid that group names could have ">" in their name, and then they would not be handled correctly
         Arrays.stream(GROUPS_SEPARATOR_REGEX.split(value))
               .distinct()
-              .forEach(group -> addBatch(preparedStatementSplitValues, entryId, field, group));
+              .forEach(group -> splitValuesRow.accept(entryId, field, group));
     }
 
-    private static void addKeywords(String keywordsString, PreparedStatement preparedStatementSplitValues, String entryId, Field field, Character keywordSeparator) {
+    private static void addKeywords(String keywordsString, RowConsumer splitValuesRow, String entryId, Field field, Character keywordSeparator) {
         KeywordList keywordList = KeywordList.parse(keywordsString, keywordSeparator);
         keywordList.stream().flatMap(keyword -> keyword.flatten().stream()).forEach(keyword -> {
             String value = keyword.toString();
-            addBatch(preparedStatementSplitValues, entryId, field, value);
+            splitValuesRow.accept(entryId, field, value);
         });
     }
 
-    private static void addAuthors(String value, PreparedStatement preparedStatementSplitValues, String entryId, Field field) {
+    private static void addAuthors(String value, RowConsumer splitValuesRow, String entryId, Field field) {
         AuthorList.parse(value).getAuthors().forEach(author -> {
             // Author object does not support literal values
             // We use the method giving us the most complete information for the literal value;
             String literal = author.getGivenFamily(false);
             String transformed = author.latexFree().getGivenFamily(false);
-            addBatch(preparedStatementSplitValues, entryId, field, literal, transformed);
+            splitValuesRow.accept(entryId, field, literal, transformed);
         });
     }
 
-    private static void addBatch(PreparedStatement preparedStatement, String entryId, Field field, String value) {
-        addBatch(preparedStatement, entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+    private static RowConsumer batchRow(PreparedStatement preparedStatement) {
+        return (entryId, field, value, normalized) -> addBatch(preparedStatement, entryId, field, value, normalized);
+    }
+
+    /**
+     * Appends the row in the text format of PostgreSQL's <code>COPY</code> command
+     */
+    private static RowConsumer copyRow(StringBuilder rows) {
+        return (entryId, field, value, normalized) -> {
+            appendCopyValue(rows, entryId).append('\t');
+            appendCopyValue(rows, field.getName()).append('\t');
+            appendCopyValue(rows, value).append('\t');
+            appendCopyValue(rows, normalized).append('\n');
+        };
+    }
+
+    private static StringBuilder appendCopyValue(StringBuilder rows, String value) {
+        if (value == null) {
+            return rows.append("\\N");
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\' -> rows.append("\\\\");
+                case '\n' -> rows.append("\\n");
+                case '\r' -> rows.append("\\r");
+                case '\t' -> rows.append("\\t");
+                default -> rows.append(c);
+            }
+        }
+        return rows;
     }
 
     /**
@@ -474,4 +762,28 @@ public class BibFieldsIndexer {
             LOGGER.error("Could not add field {} having value {} of entry {} to the index.", field.getName(), value, entryId, e);
         }
     }
+
+    /**
+     * Receives the rows to be stored in a table of the index
+     */
+    @FunctionalInterface
+    private interface RowConsumer {
+        /**
+         * The values are passed as they should be inserted into the database table
+         */
+        void accept(String entryId, Field field, String value, String normalized);
+
+        default void accept(String entryId, Field field, String value) {
+            accept(entryId, field, value, LATEX_TO_UNICODE_FORMATTER.format(value));
+        }
+    }
+
+    /**
+     * The rows of a chunk of entries in the text format of PostgreSQL's <code>COPY</code> command
+     */
+    private record CopyRows(String mainTableRows, String splitValuesRows) {
+    }
+
+    private record PendingChunk(List<BibEntry> entries, Future<CopyRows> rows) {
+    }
 }
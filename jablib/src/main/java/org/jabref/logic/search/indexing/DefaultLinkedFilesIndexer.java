@@ -10,7 +10,12 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
@@ -48,6 +53,8 @@ import org.slf4j.LoggerFactory;
 public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultLinkedFilesIndexer.class);
     private static final DocumentReader DOCUMENT_READER = new DocumentReader();
+    // Large PDF files take much memory when open, thus only a few of them are read at the same time
+    private static final int MAXIMUM_OPEN_DOCUMENTS = 4;
     private static int NUMBER_OF_UNSAVED_LIBRARIES = 1;
 
     private final BibDatabaseContext databaseContext;
@@ -56,14 +63,14 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
     private final Directory indexDirectory;
     private final IndexWriter indexWriter;
     private final SearcherManager searcherManager;
+    // Written by the workers of addToIndex concurrently
+    private final Map<String, Long> indexedFiles = new ConcurrentHashMap<>();
     private Path indexDirectoryPath;
-    private Map<String, Long> indexedFiles;
 
     public DefaultLinkedFilesIndexer(BibDatabaseContext databaseContext, FilePreferences filePreferences) throws IOException {
         this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElseGet(() -> "untitled");
-        this.indexedFiles = new ConcurrentHashMap<>();
 
         indexDirectoryPath = databaseContext.getFulltextIndexPath();
         IndexWriterConfig config = new IndexWriterConfig(LinkedFilesConstants.LINKED_FILES_ANALYZER);
@@ -79,7 +86,8 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
 
     @Override
     public void updateOnStart(BackgroundTask<?> task) {
-        indexedFiles = getLinkedFilesFromIndex();
+        indexedFiles.clear();
+        indexedFiles.putAll(getLinkedFilesFromIndex());
         Map<String, Pair<Long, Path>> currentFiles = getLinkedFilesFromEntries(databaseContext.getEntries());
 
         Set<String> filesToRemove = new HashSet<>();
@@ -135,22 +143,53 @@ public class DefaultLinkedFilesIndexer implements LuceneIndexer {
         }
 
         LOGGER.debug("Adding {} files to index", linkedFiles.size());
-        int i = 1;
-        for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Adding files to index canceled");
+        long start = System.nanoTime();
+        // Each worker has at most one document open, thus the number of workers bounds the memory used for reading
+        try (ExecutorService workers = Executors.newFixedThreadPool(Math.min(MAXIMUM_OPEN_DOCUMENTS, Runtime.getRuntime().availableProcessors()))) {
+            CompletionService<Path> completionService = new ExecutorCompletionService<>(workers);
+            for (Map.Entry<String, Pair<Long, Path>> entry : linkedFiles.entrySet()) {
+                completionService.submit(() -> {
+                    if (!task.isCancelled()) {
+                        addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
+                    }
+                    return entry.getValue().getValue();
+                });
+            }
+
+            try {
+                for (int i = 1; i <= linkedFiles.size(); i++) {
+                    Path indexedFile;
+                    try {
+                        indexedFile = completionService.take().get();
+                    } catch (ExecutionException e) {
+                        // Unexpected errors of the PDF library affect only the file being read
+                        LOGGER.warn("Could not add a file to the index", e.getCause());
+                        continue;
+                    }
+                    if (task.isCancelled()) {
+                        LOGGER.debug("Adding files to index canceled");
+                        workers.shutdownNow();
+                        return;
+                    }
+                    double filesPerSecond = i / Math.max((System.nanoTime() - start) / 1e9, 0.001);
+                    task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
+                    task.updateProgress(i, linkedFiles.size());
+                    task.updateMessage(Localization.lang("Indexing %0 | %1 file(s) per second", FileUtil.shortenFileName(indexedFile.getFileName().toString(), 68), "%.1f".formatted(filesPerSecond)));
+                    task.showToUser(true);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                LOGGER.debug("Adding files to index interrupted");
+                workers.shutdownNow();
                 return;
             }
-            addToIndex(entry.getKey(), entry.getValue().getKey(), entry.getValue().getValue());
-            task.setTitle(Localization.lang("Indexing files for %1 | %2 of %0 file(s) indexed.", linkedFiles.size(), libraryName, i));
-            task.updateProgress(i, linkedFiles.size());
-            task.updateMessage(Localization.lang("Indexing %0", FileUtil.shortenFileName(entry.getValue().getValue().getFileName().toString(), 68)));
-            task.showToUser(true);
-            i++;
         }
         LOGGER.debug("Added {} files to index", linkedFiles.size());
     }
 
+    /**
+     * Called by several workers at once. This is safe, because the {@link DocumentReader} keeps no state, and both the {@link IndexWriter} and {@link #indexedFiles} are thread-safe.
+     */
     private void addToIndex(String fileLink, long modifiedTime, Path resolvedPath) {
         LOGGER.debug("Adding file {} to the index.", fileLink);
         List<Document> pages = DOCUMENT_READER.readPdfContents(fileLink, resolvedPath);
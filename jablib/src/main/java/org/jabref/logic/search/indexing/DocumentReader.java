@@ -1,6 +1,7 @@
 package org.jabref.logic.search.indexing;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -38,16 +39,27 @@ public final class DocumentReader {
     private static final Pattern HYPHEN_LINEBREAK_PATTERN = Pattern.compile("\\-\n");
     private static final Pattern LINEBREAK_WITHOUT_PERIOD_PATTERN = Pattern.compile("([^\\\\.])\\n");
 
+    /**
+     * The text of all pages is extracted in a single pass over the document. If that fails, e.g., due to a damaged page,
+     * the text is extracted page by page, so that the readable pages are still indexed.
+     * <p>
+     * This method is thread-safe: each call uses its own document and text stripper.
+     */
     public List<Document> readPdfContents(String fileLink, Path resolvedPdfPath) {
         List<Document> pages = new ArrayList<>();
         try (PDDocument pdfDocument = Loader.loadPDF(resolvedPdfPath.toFile())) {
             int numberOfPages = pdfDocument.getNumberOfPages();
             LOGGER.debug("Reading file {} content with {} pages", resolvedPdfPath.toAbsolutePath(), numberOfPages);
+            List<String> pageTexts = readPageTexts(pdfDocument, resolvedPdfPath);
             for (int pageNumber = 1; pageNumber <= numberOfPages; pageNumber++) {
                 Document newDocument = new Document();
                 addIdentifiers(newDocument, fileLink);
                 addMetaData(newDocument, resolvedPdfPath, pageNumber);
-                addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
+                if (pageTexts.size() == numberOfPages) {
+                    addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber, pageTexts.get(pageNumber - 1));
+                } else {
+                    addContentIfNotEmpty(pdfDocument, newDocument, resolvedPdfPath, pageNumber);
+                }
 
                 pages.add(newDocument);
             }
@@ -64,6 +76,18 @@ public final class DocumentReader {
         return pages;
     }
 
+    /**
+     * @return the text of each page, or an empty list if the text could not be extracted
+     */
+    private List<String> readPageTexts(PDDocument pdfDocument, Path resolvedPdfPath) {
+        try {
+            return new PageTextStripper().getPageTexts(pdfDocument);
+        } catch (IOException e) {
+            LOGGER.debug("Could not read {} at once, reading page by page", resolvedPdfPath.toAbsolutePath(), e);
+            return List.of();
+        }
+    }
+
     private void addStringField(Document newDocument, String field, String value) {
         if (!isValidField(value)) {
             return;
@@ -97,7 +121,14 @@ public final class DocumentReader {
         pdfTextStripper.setEndPage(pageNumber);
 
         try {
-            String pdfContent = pdfTextStripper.getText(pdfDocument);
+            addContentIfNotEmpty(pdfDocument, newDocument, resolvedPath, pageNumber, pdfTextStripper.getText(pdfDocument));
+        } catch (IOException e) {
+            LOGGER.warn("Could not read page {} of  {}", pageNumber, resolvedPath.toAbsolutePath(), e);
+        }
+    }
+
+    private void addContentIfNotEmpty(PDDocument pdfDocument, Document newDocument, Path resolvedPath, int pageNumber, String pdfContent) {
+        try {
             if (StringUtil.isNotBlank(pdfContent)) {
                 newDocument.add(new TextField(CONTENT.toString(), mergeLines(pdfContent), Field.Store.YES));
             }
@@ -121,4 +152,33 @@ public final class DocumentReader {
     private void addIdentifiers(Document newDocument, String path) {
         newDocument.add(new StringField(PATH.toString(), path, Field.Store.YES));
     }
+
+    /**
+     * Extracts the text of all pages of a document in one pass and splits it at the page boundaries
+     */
+    private static class PageTextStripper extends PDFTextStripper {
+        private final StringWriter pageText = new StringWriter();
+        private final List<String> pageTexts = new ArrayList<>();
+
+        PageTextStripper() {
+            setLineSeparator("\n");
+        }
+
+        List<String> getPageTexts(PDDocument pdfDocument) throws IOException {
+            writeText(pdfDocument, pageText);
+            return pageTexts;
+        }
+
+        @Override
+        protected void startPage(PDPage page) throws IOException {
+            pageText.getBuffer().setLength(0);
+            super.startPage(page);
+        }
+
+        @Override
+        protected void endPage(PDPage page) throws IOException {
+            super.endPage(page);
+            pageTexts.add(pageText.toString());
+        }
+    }
 }
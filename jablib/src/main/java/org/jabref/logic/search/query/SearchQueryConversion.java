@@ -2,6 +2,7 @@ package org.jabref.logic.search.query;
 
 import java.util.List;
 
+import org.jabref.logic.search.indexing.BibFieldsIndexIds;
 import org.jabref.model.search.query.SearchQuery;
 import org.jabref.model.search.query.SearchQueryNode;
 import org.jabref.model.search.query.SqlQueryNode;
@@ -14,8 +15,12 @@ public class SearchQueryConversion {
     private static final Logger LOGGER = LoggerFactory.getLogger(SearchQueryConversion.class);
 
     public static SqlQueryNode searchToSql(String table, SearchQuery searchQuery) {
+        return searchToSql(table, searchQuery, BibFieldsIndexIds.ofEntryIds());
+    }
+
+    public static SqlQueryNode searchToSql(String table, SearchQuery searchQuery, BibFieldsIndexIds indexIds) {
         LOGGER.debug("Converting search expression to SQL: {}", searchQuery.getSearchExpression());
-        return new SearchToSqlVisitor(table, searchQuery.getSearchFlags()).visit(searchQuery.getContext());
+        return new SearchToSqlVisitor(table, searchQuery.getSearchFlags(), indexIds).visit(searchQuery.getContext());
     }
 
     public static String flagsToSearchExpression(SearchQuery searchQuery) {
@@ -7,6 +7,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.stream.Collectors;
 
+import org.jabref.logic.search.indexing.BibFieldsIndexIds;
 import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
@@ -41,13 +42,22 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
     private final EnumSet<SearchFlags> searchBarFlags;
     private final String mainTableName;
     private final String splitValuesTableName;
+    private final BibFieldsIndexIds indexIds;
     private final List<SqlQueryNode> nodes = new ArrayList<>();
     private int cteCounter = 0;
 
     public SearchToSqlVisitor(String table, EnumSet<SearchFlags> searchBarFlags) {
+        this(table, searchBarFlags, BibFieldsIndexIds.ofEntryIds());
+    }
+
+    /**
+     * @param indexIds the mapping of the entries to the ids used in the rows of the index, required for queries of entry ids
+     */
+    public SearchToSqlVisitor(String table, EnumSet<SearchFlags> searchBarFlags, BibFieldsIndexIds indexIds) {
         this.searchBarFlags = searchBarFlags;
         this.mainTableName = PostgreConstants.getMainTableSchemaReference(table);
         this.splitValuesTableName = PostgreConstants.getSplitTableSchemaReference(table);
+        this.indexIds = indexIds;
     }
 
     @Override
@@ -269,7 +279,8 @@ public class SearchToSqlVisitor extends SearchBaseVisitor<SqlQueryNode> {
                     WHERE %s = ?
                 )
                 """.formatted(cteCounter, ENTRY_ID, mainTableName, ENTRY_ID);
-        SqlQueryNode node = new SqlQueryNode(cte, List.of(entryId));
+        // An entry which is not indexed yet does not match any row
+        SqlQueryNode node = new SqlQueryNode(cte, List.of(indexIds.findIndexId(entryId).orElse("")));
         nodes.add(node);
         return new SqlQueryNode("cte" + cteCounter++);
     }
@@ -4,7 +4,10 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
 
+import org.jabref.logic.search.indexing.BibFieldsIndexIds;
 import org.jabref.logic.search.query.SearchQueryConversion;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.search.query.SearchQuery;
@@ -22,27 +25,75 @@ public class BibFieldsSearcher {
 
     private final Connection connection;
     private final String tableName;
+    private final BibFieldsIndexIds indexIds;
 
     public BibFieldsSearcher(Connection connection, String tableName) {
+        this(connection, tableName, BibFieldsIndexIds.ofEntryIds());
+    }
+
+    /**
+     * @param indexIds the mapping of the entries to the ids used in the rows of the index, see {@link org.jabref.logic.search.indexing.BibFieldsIndexer#getIndexIds()}
+     */
+    public BibFieldsSearcher(Connection connection, String tableName, BibFieldsIndexIds indexIds) {
         this.connection = connection;
         this.tableName = tableName;
+        this.indexIds = indexIds;
     }
 
     public boolean isMatched(BibEntry entry, SearchQuery searchQuery) {
-        SearchQuery newSearchQuery = createBooleanQueryForEntry(entry, searchQuery);
-        return search(newSearchQuery).isMatched(entry);
+        return search(searchQuery, List.of(entry)).isMatched(entry);
     }
 
-    private static SearchQuery createBooleanQueryForEntry(BibEntry entry, SearchQuery oldSearchQuery) {
-        String newSearchExpression = "( " + ENTRY_ID + "= " + entry.getId() + ") AND (" + oldSearchQuery.getSearchExpression() + " )";
-        return new SearchQuery(newSearchExpression, oldSearchQuery.getSearchFlags());
+    /**
+     * Evaluates the search query restricted to the given entries in a single statement.
+     * This avoids one round trip per entry when many entries changed at once (e.g., after a bulk edit).
+     *
+     * @return the search results containing only those of the given entries which are matched by the query
+     */
+    public SearchResults search(SearchQuery searchQuery, Collection<BibEntry> entries) {
+        if (!searchQuery.isValid() || entries.isEmpty()) {
+            return new SearchResults();
+        }
+        // Entries which are not indexed yet cannot be matched
+        String[] entryIds = entries.stream()
+                                   .map(BibEntry::getId)
+                                   .distinct()
+                                   .flatMap(entryId -> indexIds.findIndexId(entryId).stream())
+                                   .toArray(String[]::new);
+        if (entryIds.length == 0) {
+            return new SearchResults();
+        }
+        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery, indexIds);
+        String sql = """
+                SELECT %s
+                FROM (%s) AS matches
+                WHERE %s = ANY(?)
+                """.formatted(ENTRY_ID, sqlQueryNode.cte(), ENTRY_ID);
+
+        SearchResults searchResults = new SearchResults();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterCount = sqlQueryNode.params().size();
+            for (int i = 0; i < parameterCount; i++) {
+                preparedStatement.setString(i + 1, sqlQueryNode.params().get(i));
+            }
+            preparedStatement.setArray(parameterCount + 1, connection.createArrayOf("text", entryIds));
+            LOGGER.debug("Executing search query for {} entries: {}", entryIds.length, preparedStatement);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            while (resultSet.next()) {
+                indexIds.findEntryId(resultSet.getString(1))
+                        .ifPresent(entryId -> searchResults.addSearchResult(entryId, new SearchResult()));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("Error during bib fields search execution", e);
+        }
+        return searchResults;
     }
 
     public SearchResults search(SearchQuery searchQuery) {
         if (!searchQuery.isValid()) {
             return new SearchResults();
         }
-        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery);
+        SqlQueryNode sqlQueryNode = SearchQueryConversion.searchToSql(tableName, searchQuery, indexIds);
         SearchResults searchResults = new SearchResults();
         try (PreparedStatement preparedStatement = connection.prepareStatement(sqlQueryNode.cte())) {
             for (int i = 0; i < sqlQueryNode.params().size(); i++) {
@@ -51,8 +102,8 @@ public class BibFieldsSearcher {
             LOGGER.debug("Executing search query: {}", preparedStatement);
             ResultSet resultSet = preparedStatement.executeQuery();
             while (resultSet.next()) {
-                String entryId = resultSet.getString(1);
-                searchResults.addSearchResult(entryId, new SearchResult());
+                indexIds.findEntryId(resultSet.getString(1))
+                        .ifPresent(entryId -> searchResults.addSearchResult(entryId, new SearchResult()));
             }
         } catch (SQLException e) {
             LOGGER.error("Error during bib fields search execution", e);
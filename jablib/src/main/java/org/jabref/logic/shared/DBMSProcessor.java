@@ -37,6 +37,11 @@ public abstract class DBMSProcessor {
 
     public static final String PROCESSOR_ID = UUID.randomUUID().toString();
 
+    /**
+     * The version announced to other clients for a removed entry. Versions of existing entries start at 1.
+     */
+    public static final int REMOVED_ENTRY_VERSION = 0;
+
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
     protected final Connection connection;
@@ -579,10 +584,13 @@ public abstract class DBMSProcessor {
      */
     public Map<Integer, Integer> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
-        String selectEntryQuery = "SELECT * FROM " +
-                escape_Table("ENTRY") +
-                " ORDER BY " +
-                escape("SHARED_ID");
+        // Only the two columns needed, because this is queried on each synchronization
+        String selectEntryQuery = "SELECT " +
+                escape("SHARED_ID") +
+                ", " +
+                escape("VERSION") +
+                " FROM " +
+                escape_Table("ENTRY");
 
         try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery)) {
             while (selectEntryResultSet.next()) {
@@ -595,6 +603,40 @@ public abstract class DBMSProcessor {
         return sharedIDVersionMapping;
     }
 
+    /**
+     * Retrieves the versions of the given shared entries in 500 element batches. Entries which do not exist are not contained in the result.
+     */
+    public Map<Integer, Integer> getSharedIDVersionMapping(List<Integer> sharedIDs) {
+        Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
+        for (List<Integer> sublist : Lists.partition(sharedIDs, 500)) {
+            String selectEntryQuery = "SELECT " +
+                    escape("SHARED_ID") +
+                    ", " +
+                    escape("VERSION") +
+                    " FROM " +
+                    escape_Table("ENTRY") +
+                    " WHERE " +
+                    escape("SHARED_ID") +
+                    " IN (" +
+                    "?, ".repeat(sublist.size() - 1) +
+                    "?)";
+
+            try (PreparedStatement preparedStatement = connection.prepareStatement(selectEntryQuery)) {
+                for (int i = 0; i < sublist.size(); i++) {
+                    preparedStatement.setInt(i + 1, sublist.get(i));
+                }
+                try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
+                    while (selectEntryResultSet.next()) {
+                        sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
+                    }
+                }
+            } catch (SQLException e) {
+                LOGGER.error("SQL Error", e);
+            }
+        }
+        return sharedIDVersionMapping;
+    }
+
     /**
      * Fetches and returns all shared meta data.
      */
@@ -691,4 +733,14 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about the given changed
+     * shared entries, so that they synchronize only these entries. Needs to be implemented if LiveUpdate is supported by the DBMS
+     *
+     * @param sharedIDs the IDs of the inserted, updated, or removed shared entries
+     */
+    public void notifyClients(@SuppressWarnings("unused") List<Integer> sharedIDs) {
+        // nothing to do
+    }
 }
@@ -84,6 +84,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             pullWithLastEntry();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             // Reset last changed entry because it just has already been synchronized -> Why necessary?
             lastEntryChanged = Optional.empty();
         }
@@ -119,6 +120,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             synchronizeLocalMetaData();
             pullWithLastEntry();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            dbmsProcessor.notifyClients(getSharedIDs(event.getBibEntries()));
             synchronizeLocalDatabase();
         }
     }
@@ -175,51 +177,113 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
-        List<BibEntry> localEntries = bibDatabase.getEntries();
         Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
         // remove old entries locally
-        removeNotSharedEntries(localEntries, idVersionMap.keySet());
-        List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
+        removeNotSharedEntries(bibDatabase.getEntries(), idVersionMap.keySet());
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = getLocalEntriesBySharedID();
+        List<Integer> entriesToSynchronize = new ArrayList<>();
+        // compare versions to find the local entries which need an update
         for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
+            if (isNewerThanLocalEntries(idVersionEntry.getKey(), idVersionEntry.getValue(), localEntriesBySharedID)) {
+                entriesToSynchronize.add(idVersionEntry.getKey());
+            }
+        }
+        updateOrInsertLocalEntries(entriesToSynchronize, localEntriesBySharedID);
+    }
+
+    /**
+     * Synchronizes only the given shared entries with the local ones. This is used for notifications of other clients,
+     * which announce the entries they changed.
+     *
+     * @param sharedIDVersions the versions of the changed shared entries, {@link DBMSProcessor#REMOVED_ENTRY_VERSION} for removed entries
+     */
+    public void pullChanges(Map<Integer, Integer> sharedIDVersions) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        pullWithLastEntry();
+
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = getLocalEntriesBySharedID();
+        List<BibEntry> entriesToRemove = new ArrayList<>();
+        List<Integer> entriesToSynchronize = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> idVersionEntry : sharedIDVersions.entrySet()) {
+            if (idVersionEntry.getValue() == DBMSProcessor.REMOVED_ENTRY_VERSION) {
+                entriesToRemove.addAll(localEntriesBySharedID.getOrDefault(idVersionEntry.getKey(), List.of()));
+            } else if (isNewerThanLocalEntries(idVersionEntry.getKey(), idVersionEntry.getValue(), localEntriesBySharedID)) {
+                entriesToSynchronize.add(idVersionEntry.getKey());
+            }
+        }
+
+        removeLocalEntries(entriesToRemove);
+        updateOrInsertLocalEntries(entriesToSynchronize, localEntriesBySharedID);
+    }
+
+    /**
+     * Indexes the local entries by their shared ID to avoid comparing each shared entry with all local entries
+     */
+    private Map<Integer, List<BibEntry>> getLocalEntriesBySharedID() {
+        return bibDatabase.getEntries().stream()
+                          .collect(Collectors.groupingBy(entry -> entry.getSharedBibEntryData().getSharedID()));
+    }
+
+    /**
+     * @return <code>true</code> if the shared entry does not exist locally or is newer than a local one
+     */
+    private static boolean isNewerThanLocalEntries(int sharedID, int sharedVersion, Map<Integer, List<BibEntry>> localEntriesBySharedID) {
+        List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(sharedID);
+        return (matchingLocalEntries == null)
+                || matchingLocalEntries.stream().anyMatch(localEntry -> sharedVersion > localEntry.getSharedBibEntryData().getVersion());
+    }
+
+    /**
+     * Fetches the given shared entries. Updates the matching local entries if they are older, and inserts the shared
+     * entries not present locally.
+     */
+    private void updateOrInsertLocalEntries(List<Integer> sharedIDs, Map<Integer, List<BibEntry>> localEntriesBySharedID) {
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        // fetch all changed entries at once instead of one query per entry
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(sharedIDs)) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (matchingLocalEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+                continue;
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+            for (BibEntry localEntry : matchingLocalEntries) {
+                if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                    updateLocalEntry(localEntry, sharedEntry);
+                }
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
         }
     }
 
+    /**
+     * Sets the type, the version, and the fields of the local entry to the ones of the shared entry.
+     */
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -231,6 +295,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
                 localEntries.stream()
                             .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
                             .collect(Collectors.toList());
+        removeLocalEntries(entriesToRemove);
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -249,6 +317,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         try {
             BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
             dbmsProcessor.updateEntry(bibEntry);
+            dbmsProcessor.notifyClients(List.of(bibEntry.getSharedBibEntryData().getSharedID()));
         } catch (OfflineLockException exception) {
             eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
         } catch (SQLException e) {
@@ -400,8 +469,17 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         }
     }
 
+    private static List<Integer> getSharedIDs(List<BibEntry> bibEntries) {
+        return bibEntries.stream()
+                         .map(entry -> entry.getSharedBibEntryData().getSharedID())
+                         // not inserted into the shared database
+                         .filter(id -> id != -1)
+                         .toList();
+    }
+
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        // Lookup by the ID instead of searching the list of all entries, because this is called on every field change
+        return bibDatabase.getEntryById(bibEntry.getId()) == bibEntry;
     }
 
     @Override
@@ -4,9 +4,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.jabref.logic.shared.listener.LiveUpdateNotification;
 import org.jabref.logic.shared.listener.PostgresSQLNotificationListener;
 import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.model.entry.BibEntry;
@@ -166,8 +168,28 @@ public class PostgreSQLProcessor extends DBMSProcessor {
 
     @Override
     public void notifyClients() {
+        notifyClients(LiveUpdateNotification.completeSynchronization(PROCESSOR_ID));
+    }
+
+    @Override
+    public void notifyClients(List<Integer> sharedIDs) {
+        if (sharedIDs.isEmpty()) {
+            return;
+        }
+        Map<Integer, Integer> existingVersions = getSharedIDVersionMapping(sharedIDs);
+        Map<Integer, Integer> sharedIDVersions = new HashMap<>();
+        for (Integer sharedID : sharedIDs) {
+            sharedIDVersions.put(sharedID, existingVersions.getOrDefault(sharedID, REMOVED_ENTRY_VERSION));
+        }
+        notifyClients(new LiveUpdateNotification(PROCESSOR_ID, sharedIDVersions));
+    }
+
+    private void notifyClients(LiveUpdateNotification notification) {
         try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+            // The payloads consist of the processor ID and numbers only, thus they do not need to be escaped
+            for (String payload : notification.toPayloads()) {
+                connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + payload + "';");
+            }
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
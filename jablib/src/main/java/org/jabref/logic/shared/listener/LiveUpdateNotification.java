@@ -0,0 +1,100 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.shared.DBMSProcessor;
+
+/**
+ * The payload of a live update notification sent by a {@link DBMSProcessor} to all other clients of the shared database.
+ * <p>
+ * It consists of the ID of the sending processor and, optionally, the changed shared entries with their new versions:
+ * <pre>
+ * &lt;processor ID&gt;[;&lt;shared ID&gt;:&lt;version&gt;,&lt;shared ID&gt;:&lt;version&gt;...]
+ * </pre>
+ * A notification without entries (as sent by older versions of JabRef) requires a complete synchronization, e.g.,
+ * because the metadata changed.
+ *
+ * @param sharedIDVersions the versions of the changed shared entries, {@link DBMSProcessor#REMOVED_ENTRY_VERSION} for removed entries
+ */
+public record LiveUpdateNotification(String processorID, Map<Integer, Integer> sharedIDVersions) {
+
+    // PostgreSQL limits the payload of a notification to 8000 bytes
+    static final int MAXIMUM_PAYLOAD_LENGTH = 7900;
+
+    private static final char PROCESSOR_ID_SEPARATOR = ';';
+    private static final char ENTRY_SEPARATOR = ',';
+    private static final char VERSION_SEPARATOR = ':';
+
+    public static LiveUpdateNotification completeSynchronization(String processorID) {
+        return new LiveUpdateNotification(processorID, Map.of());
+    }
+
+    public boolean requiresCompleteSynchronization() {
+        return sharedIDVersions.isEmpty();
+    }
+
+    /**
+     * Parses the given payload. A payload which cannot be parsed requires a complete synchronization.
+     */
+    public static LiveUpdateNotification parse(String payload) {
+        int processorIDEnd = payload.indexOf(PROCESSOR_ID_SEPARATOR);
+        if (processorIDEnd < 0) {
+            return completeSynchronization(payload);
+        }
+
+        String processorID = payload.substring(0, processorIDEnd);
+        Map<Integer, Integer> sharedIDVersions = new HashMap<>();
+        try {
+            for (String entry : payload.substring(processorIDEnd + 1).split(String.valueOf(ENTRY_SEPARATOR))) {
+                int versionStart = entry.indexOf(VERSION_SEPARATOR);
+                sharedIDVersions.put(Integer.parseInt(entry.substring(0, versionStart)), Integer.parseInt(entry.substring(versionStart + 1)));
+            }
+        } catch (NumberFormatException | IndexOutOfBoundsException e) {
+            return completeSynchronization(processorID);
+        }
+        return new LiveUpdateNotification(processorID, sharedIDVersions);
+    }
+
+    /**
+     * Returns the payloads announcing this notification. The entries are split into several payloads if they do not
+     * fit into a single one.
+     */
+    public List<String> toPayloads() {
+        if (requiresCompleteSynchronization()) {
+            return List.of(processorID);
+        }
+
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(processorID);
+        for (Map.Entry<Integer, Integer> idVersionEntry : sharedIDVersions.entrySet()) {
+            String entry = String.valueOf(idVersionEntry.getKey()) + VERSION_SEPARATOR + idVersionEntry.getValue();
+            if ((payload.length() > processorID.length()) && (payload.length() + 1 + entry.length() > MAXIMUM_PAYLOAD_LENGTH)) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(processorID);
+            }
+            payload.append(payload.length() == processorID.length() ? PROCESSOR_ID_SEPARATOR : ENTRY_SEPARATOR)
+                   .append(entry);
+        }
+        payloads.add(payload.toString());
+        return payloads;
+    }
+
+    /**
+     * Combines this notification with a later one of the same processor or of another one.
+     * A removal of an entry takes precedence over any version, otherwise the higher version is kept.
+     */
+    public LiveUpdateNotification merge(LiveUpdateNotification other) {
+        if (requiresCompleteSynchronization() || other.requiresCompleteSynchronization()) {
+            return completeSynchronization(processorID);
+        }
+        Map<Integer, Integer> mergedVersions = new HashMap<>(sharedIDVersions);
+        other.sharedIDVersions.forEach((sharedID, version) -> mergedVersions.merge(sharedID, version, (first, second) ->
+                ((first == DBMSProcessor.REMOVED_ENTRY_VERSION) || (second == DBMSProcessor.REMOVED_ENTRY_VERSION))
+                        ? DBMSProcessor.REMOVED_ENTRY_VERSION
+                        : Math.max(first, second)));
+        return new LiveUpdateNotification(processorID, mergedVersions);
+    }
+}
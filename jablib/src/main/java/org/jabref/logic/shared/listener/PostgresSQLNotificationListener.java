@@ -1,6 +1,8 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Optional;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
@@ -35,11 +37,12 @@ public class PostgresSQLNotificationListener implements Runnable {
                 PGNotification[] notifications = pgConnection.getNotifications();
 
                 if (notifications != null) {
-                    for (PGNotification notification : notifications) {
-                        if (!DBMSProcessor.PROCESSOR_ID.equals(notification.getName())) {
-                            dbmsSynchronizer.pullChanges();
-                        }
-                    }
+                    // Coalesce all notifications received since the last check into a single synchronization
+                    Optional<LiveUpdateNotification> changes = Arrays.stream(notifications)
+                                                                     .map(notification -> LiveUpdateNotification.parse(notification.getParameter()))
+                                                                     .filter(notification -> !DBMSProcessor.PROCESSOR_ID.equals(notification.processorID()))
+                                                                     .reduce(LiveUpdateNotification::merge);
+                    changes.ifPresent(this::pullChanges);
                 }
 
                 // Wait a while before checking again for new notifications
@@ -50,6 +53,14 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    private void pullChanges(LiveUpdateNotification changes) {
+        if (changes.requiresCompleteSynchronization()) {
+            dbmsSynchronizer.pullChanges();
+        } else {
+            dbmsSynchronizer.pullChanges(changes.sharedIDVersions());
+        }
+    }
+
     public void stop() {
         stop = true;
     }
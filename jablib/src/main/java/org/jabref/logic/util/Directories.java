@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import org.jabref.logic.ai.AiService;
 import org.jabref.logic.os.OS;
 import org.jabref.model.search.LinkedFilesConstants;
+import org.jabref.model.search.PostgreConstants;
 
 import net.harawata.appdirs.AppDirsFactory;
 
@@ -49,6 +50,16 @@ public class Directories {
                                              OS.APP_DIR_APP_AUTHOR));
     }
 
+    /**
+     * The data directory of the Postgres server keeping the bib fields indexes across sessions
+     */
+    public static Path getBibFieldsIndexDirectory() {
+        return Path.of(AppDirsFactory.getInstance()
+                                     .getUserDataDir(OS.APP_DIR_APP_NAME,
+                                             "postgres" + File.separator + PostgreConstants.VERSION,
+                                             OS.APP_DIR_APP_AUTHOR));
+    }
+
     public static Path getAiFilesDirectory() {
         return Path.of(AppDirsFactory.getInstance()
                 .getUserDataDir(OS.APP_DIR_APP_NAME,
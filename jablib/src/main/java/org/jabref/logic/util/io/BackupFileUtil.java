@@ -76,8 +76,10 @@ public class BackupFileUtil {
         Optional<Path> mostRecentFile;
         try {
             mostRecentFile = Files.list(backupDir)
-                                  // just list the .sav belonging to the given targetFile
+                                  // just list the backup files belonging to the given targetFile
                                   .filter(p -> p.getFileName().toString().startsWith(prefix))
+                                  // other files (e.g., the journals of backups) share the prefix
+                                  .filter(p -> p.getFileName().toString().endsWith(extension))
                                   .sorted()
                                   .reduce((first, second) -> second);
         } catch (IOException e) {
@@ -7,7 +7,7 @@ import info.debatty.java.stringsimilarity.Levenshtein;
 public class StringSimilarity {
     private final Levenshtein METRIC_DISTANCE = new Levenshtein();
     // edit distance threshold for entry title comparison
-    private final int METRIC_THRESHOLD = 4;
+    public static final int METRIC_THRESHOLD = 4;
 
     /**
      * String similarity based on Levenshtein, ignoreCase, and fixed metric threshold of 4.
@@ -24,4 +24,51 @@ public class StringSimilarity {
         // TODO: Locale is dependent on the language of the strings. English is a good denominator.
         return METRIC_DISTANCE.distance(a.toLowerCase(Locale.ENGLISH), b.toLowerCase(Locale.ENGLISH));
     }
+
+    /**
+     * Computes the Levenshtein distance, but stops as soon as it exceeds the given maximum.
+     * Only the diagonal band of the dynamic programming matrix which can lead to a distance within the maximum is computed,
+     * thus dissimilar strings are rejected fast.
+     *
+     * @return the Levenshtein distance if it is at most <code>maxDistance</code>, otherwise <code>maxDistance + 1</code>
+     */
+    public static int boundedEditDistance(String a, String b, int maxDistance) {
+        int tooFar = maxDistance + 1;
+        if (Math.abs(a.length() - b.length()) > maxDistance) {
+            return tooFar;
+        }
+
+        int[] previousRow = new int[b.length() + 1];
+        int[] currentRow = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previousRow[j] = Math.min(j, tooFar);
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(b.length(), i + maxDistance);
+            currentRow[0] = Math.min(i, tooFar);
+            // Cells next to the band are not computed, they are too far in any case
+            currentRow[from - 1] = from == 1 ? currentRow[0] : tooFar;
+            if (to < b.length()) {
+                currentRow[to + 1] = tooFar;
+            }
+
+            int rowMinimum = currentRow[from - 1];
+            for (int j = from; j <= to; j++) {
+                int substitution = previousRow[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                int distance = Math.min(substitution, Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                currentRow[j] = Math.min(distance, tooFar);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum >= tooFar) {
+                return tooFar;
+            }
+
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[b.length()];
+    }
 }
@@ -36,6 +36,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -56,10 +57,16 @@ public class BibDatabase {
     /**
      * State attributes
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    private final BibEntryList entryList = new BibEntryList();
+
+    // All modifications of entryList have to be done while holding the lock of this list
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(entryList);
 
     // BibEntryId to BibEntry
     private final Map<String, BibEntry> entriesId = new HashMap<>();
+
+    // Citation key to the entries having that key, ordered by their ID (and thus by their position in the database)
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
     // Not included in equals, because it is not relevant for the content of the database
@@ -117,8 +124,8 @@ public class BibDatabase {
     /**
      * Returns whether an entry with the given ID exists (-> entry_type + hashcode).
      */
-    public boolean containsEntryWithId(String id) {
-        return entries.stream().anyMatch(entry -> entry.getId().equals(id));
+    public synchronized boolean containsEntryWithId(String id) {
+        return entriesId.containsKey(id);
     }
 
     public ObservableList<BibEntry> getEntries() {
@@ -144,7 +151,11 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return Optional.empty();
+        }
+        return Optional.of(entriesWithKey.getFirst());
     }
 
     /**
@@ -154,16 +165,7 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
-        }
-        return result;
+        return new ArrayList<>(entriesByCitationKey.getOrDefault(key, List.of()));
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -201,6 +203,7 @@ public class BibDatabase {
         entries.addAll(newEntries);
         newEntries.forEach(entry -> {
                     entriesId.put(entry.getId(), entry);
+                    entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(key, entry));
                     indexEntry(entry);
                 }
         );
@@ -227,6 +230,8 @@ public class BibDatabase {
     /**
      * Removes the given entries.
      * The entries are removed based on the id {@link BibEntry#getId()}
+     * <p>
+     * Listeners of {@link #getEntries()} are notified by a single change, which only contains the ranges of the removed entries.
      *
      * @param toBeDeleted Entry to delete
      * @param eventSource Source the event is sent from
@@ -234,29 +239,119 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        Collection<String> idsToBeDeleted;
-        if (toBeDeleted.size() > 10) {
-            idsToBeDeleted = new HashSet<>();
-        } else {
-            idsToBeDeleted = new ArrayList<>(toBeDeleted.size());
-        }
-
-        for (BibEntry entry : toBeDeleted) {
-            idsToBeDeleted.add(entry.getId());
-        }
-
-        List<BibEntry> newEntries = new ArrayList<>(entries);
-        newEntries.removeIf(entry -> idsToBeDeleted.contains(entry.getId()));
+        int[] indicesToBeDeleted = getIndicesOfIds(toBeDeleted);
 
         toBeDeleted.forEach(entry -> {
-            entriesId.remove(entry.getId());
+            BibEntry removedEntry = entriesId.remove(entry.getId());
+            if (removedEntry != null) {
+                removedEntry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(key, removedEntry));
+            }
             removeEntryFromIndex(entry);
         });
 
-        entries.setAll(newEntries);
+        synchronized (entries) {
+            entryList.removeAt(indicesToBeDeleted);
+        }
         eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
     }
 
+    /**
+     * Runs the given insertions and removals of entries (e.g., {@link #insertEntries(List)} and {@link #removeEntries(List)}) as one modification of the list of entries.
+     * Listeners of {@link #getEntries()} are notified once after all modifications are done, instead of once per modification.
+     * The {@link EntriesAddedEvent}s and {@link EntriesRemovedEvent}s are posted as usual.
+     */
+    public synchronized void runAsSingleChange(Runnable modifications) {
+        synchronized (entries) {
+            entryList.runAsSingleChange(modifications);
+        }
+    }
+
+    /**
+     * @return the positions of all entries having the ID of one of the given entries, in ascending order
+     * @implNote The positions are found using a binary search (see {@link #indexOf(BibEntry)}).
+     * Only if that fails, because the entries are not ordered by their IDs (e.g., after entries were removed and inserted again), all entries are compared.
+     */
+    private int[] getIndicesOfIds(List<BibEntry> entriesWithIds) {
+        Set<Integer> indices = new TreeSet<>();
+        for (BibEntry entry : entriesWithIds) {
+            int index = entryList.binarySearch(entry);
+            if (index < 0) {
+                return getIndicesOfIdsByLinearSearch(entriesWithIds);
+            }
+            // Entries with the same ID are next to each other
+            int from = index;
+            while ((from > 0) && entries.get(from - 1).getId().equals(entry.getId())) {
+                from--;
+            }
+            int to = index;
+            while ((to < entries.size() - 1) && entries.get(to + 1).getId().equals(entry.getId())) {
+                to++;
+            }
+            for (int i = from; i <= to; i++) {
+                indices.add(i);
+            }
+        }
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private int[] getIndicesOfIdsByLinearSearch(List<BibEntry> entriesWithIds) {
+        Set<String> ids = entriesWithIds.stream().map(BibEntry::getId).collect(Collectors.toSet());
+        List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (ids.contains(entries.get(i).getId())) {
+                indices.add(i);
+            }
+        }
+        return indices.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * @implNote The entries having the same key are kept ordered by their ID, which is the order of the entries in the database (see {@link #indexOf(BibEntry)}).
+     */
+    private void addToCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.computeIfAbsent(key, _ -> new ArrayList<>(1));
+        int position = Collections.binarySearch(entriesWithKey, entry, BibEntryList.ID_ORDER);
+        entriesWithKey.add(position < 0 ? -position - 1 : position, entry);
+    }
+
+    private void removeFromCitationKeyIndex(String key, BibEntry entry) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        if (entriesWithKey == null) {
+            return;
+        }
+        // Identity instead of equals, because different entries with the same content may be in the database
+        entriesWithKey.removeIf(entryWithKey -> entryWithKey == entry);
+        if (entriesWithKey.isEmpty()) {
+            entriesByCitationKey.remove(key);
+        }
+    }
+
+    /**
+     * Keeps the lookup maps consistent with changes of the citation key and of the ID of the entries in this database.
+     * Entries which have been removed from this database are still observed, thus they are ignored here.
+     */
+    private synchronized void updateIndexes(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        if (event.getField() == InternalField.KEY_FIELD) {
+            if (entriesId.get(entry.getId()) != entry) {
+                return;
+            }
+            if (!StringUtil.isBlank(event.getOldValue())) {
+                removeFromCitationKeyIndex(event.getOldValue(), entry);
+            }
+            if (!StringUtil.isBlank(event.getNewValue())) {
+                addToCitationKeyIndex(event.getNewValue(), entry);
+            }
+        } else if (event.getField() == InternalField.INTERNAL_ID_FIELD) {
+            // The event is posted before the ID of the entry is changed
+            if (entriesId.get(event.getOldValue()) != entry) {
+                return;
+            }
+            entriesId.remove(event.getOldValue());
+            entriesId.put(event.getNewValue(), entry);
+        }
+    }
+
     private void forEachCitationKey(BibEntry entry, Consumer<String> keyConsumer) {
         for (Field field : entry.getFields()) {
             if (field.getProperties().contains(FieldProperty.SINGLE_ENTRY_LINK) || field.getProperties().contains(FieldProperty.MULTIPLE_ENTRY_LINK)) {
@@ -625,6 +720,7 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        updateIndexes(event);
         eventBus.post(event);
     }
 
@@ -661,11 +757,9 @@ public class BibDatabase {
     /**
      * Returns the number of occurrences of the given citation key in this database.
      */
-    public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+    public synchronized long getNumberOfCitationKeyOccurrences(String key) {
+        List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+        return entriesWithKey == null ? 0 : entriesWithKey.size();
     }
 
     /**
@@ -699,7 +793,7 @@ public class BibDatabase {
      * @implNote IDs are zero-padded strings, so there is no need to convert them to integers for comparison.
      */
     public int indexOf(BibEntry bibEntry) {
-        int index = Collections.binarySearch(entries, bibEntry, Comparator.comparing(BibEntry::getId));
+        int index = entryList.binarySearch(bibEntry);
         if (index >= 0) {
             return index;
         }
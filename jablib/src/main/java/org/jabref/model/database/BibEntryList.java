@@ -0,0 +1,201 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.ModifiableObservableListBase;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The list holding the entries of a {@link BibDatabase}.
+ * <p>
+ * Behaves like {@code FXCollections.observableArrayList(BibEntry::getObservables)}, but
+ * <ul>
+ *     <li>removes entries given by their indices, where listeners get notified about each removed range instead of a replacement of the whole list,</li>
+ *     <li>allows to combine several modifications into a single change (see {@link #runAsSingleChange(Runnable)}), and</li>
+ *     <li>finds the position of a modified entry by a binary search on the IDs instead of a linear search (see {@link BibDatabase#indexOf(BibEntry)}).</li>
+ * </ul>
+ * The list is not synchronized.
+ */
+class BibEntryList extends ModifiableObservableListBase<BibEntry> {
+
+    static final Comparator<BibEntry> ID_ORDER = Comparator.comparing(BibEntry::getId);
+
+    private static class EntryObserver {
+        private final InvalidationListener listener;
+        private int occurrences;
+
+        EntryObserver(InvalidationListener listener) {
+            this.listener = listener;
+        }
+    }
+
+    private final List<BibEntry> entries = new ArrayList<>();
+
+    // Identity, because BibEntry#equals compares the content
+    private final Map<BibEntry, EntryObserver> observers = new IdentityHashMap<>();
+
+    @Override
+    public BibEntry get(int index) {
+        return entries.get(index);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    protected void doAdd(int index, BibEntry entry) {
+        entries.add(index, entry);
+        startObserving(entry);
+    }
+
+    @Override
+    protected BibEntry doSet(int index, BibEntry entry) {
+        BibEntry oldEntry = entries.set(index, entry);
+        stopObserving(oldEntry);
+        startObserving(entry);
+        return oldEntry;
+    }
+
+    @Override
+    protected BibEntry doRemove(int index) {
+        BibEntry removedEntry = entries.remove(index);
+        stopObserving(removedEntry);
+        return removedEntry;
+    }
+
+    /**
+     * Appends all given entries by a single modification of the underlying list
+     */
+    @Override
+    public boolean addAll(Collection<? extends BibEntry> newEntries) {
+        if (newEntries.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            int from = entries.size();
+            entries.addAll(newEntries);
+            newEntries.forEach(this::startObserving);
+            modCount++;
+            nextAdd(from, entries.size());
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the given range by a single modification of the underlying list
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<BibEntry> range = entries.subList(fromIndex, toIndex);
+            List<BibEntry> removedEntries = new ArrayList<>(range);
+            range.clear();
+            removedEntries.forEach(this::stopObserving);
+            modCount++;
+            nextRemove(fromIndex, removedEntries);
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the entries at the given positions. Listeners are notified about one change, which contains a removal for each consecutive range of positions.
+     *
+     * @param sortedIndices the positions of the entries to remove in ascending order without duplicates
+     */
+    void removeAt(int[] sortedIndices) {
+        runAsSingleChange(() -> {
+            // From the back to the front, thus the positions of the ranges not yet removed do not change
+            int end = sortedIndices.length;
+            while (end > 0) {
+                int start = end - 1;
+                while ((start > 0) && (sortedIndices[start - 1] == sortedIndices[start] - 1)) {
+                    start--;
+                }
+                removeRange(sortedIndices[start], sortedIndices[end - 1] + 1);
+                end = start;
+            }
+        });
+    }
+
+    /**
+     * Runs the given modifications of this list. Listeners are notified once after all modifications are done.
+     */
+    void runAsSingleChange(Runnable modifications) {
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * @return the position of the entry with the given ID, or a negative value if there is no such entry (see {@link Collections#binarySearch(List, Object, Comparator)})
+     */
+    int binarySearch(BibEntry entry) {
+        return Collections.binarySearch(entries, entry, ID_ORDER);
+    }
+
+    private void startObserving(BibEntry entry) {
+        EntryObserver observer = observers.computeIfAbsent(entry, _ -> {
+            EntryObserver newObserver = new EntryObserver(_ -> entryUpdated(entry));
+            for (Observable observable : entry.getObservables()) {
+                observable.addListener(newObserver.listener);
+            }
+            return newObserver;
+        });
+        observer.occurrences++;
+    }
+
+    private void stopObserving(BibEntry entry) {
+        EntryObserver observer = observers.get(entry);
+        if (observer == null) {
+            return;
+        }
+        observer.occurrences--;
+        if (observer.occurrences == 0) {
+            observers.remove(entry);
+            for (Observable observable : entry.getObservables()) {
+                observable.removeListener(observer.listener);
+            }
+        }
+    }
+
+    private void entryUpdated(BibEntry entry) {
+        beginChange();
+        try {
+            int index = binarySearch(entry);
+            if ((index >= 0) && (entries.get(index) == entry)) {
+                nextUpdate(index);
+            } else {
+                // The entries are not ordered by their IDs (e.g., if the ID of an entry was changed)
+                for (int i = 0; i < entries.size(); i++) {
+                    if (entries.get(i) == entry) {
+                        nextUpdate(i);
+                    }
+                }
+            }
+        } finally {
+            endChange();
+        }
+    }
+}
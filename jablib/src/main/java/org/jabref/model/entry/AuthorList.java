@@ -173,10 +173,14 @@ public class AuthorList implements Iterable<Author> {
      * @return An AuthorList object representing the given authors.
      */
     public static AuthorList parse(@NonNull final String authors) {
-        return AUTHOR_CACHE.computeIfAbsent(authors, string -> {
-            AuthorListParser parser = new AuthorListParser();
-            return parser.parse(string);
-        });
+        AuthorList cached = AUTHOR_CACHE.get(authors);
+        if (cached != null) {
+            return cached;
+        }
+        // Parse outside the lock of the cache, so that concurrent callers (e.g., the search indexer) are not serialized
+        AuthorList parsed = new AuthorListParser().parse(authors);
+        AuthorList previous = AUTHOR_CACHE.putIfAbsent(authors, parsed);
+        return previous == null ? parsed : previous;
     }
 
     /**
@@ -65,6 +65,18 @@ public class SearchGroup extends AbstractGroup {
         }
     }
 
+    /**
+     * Updates the matches of the given entries at once
+     *
+     * @param entries the entries which were checked
+     * @param matchedEntriesId the ids of those entries which are matched by the search query
+     */
+    public void updateMatches(Collection<BibEntry> entries, Set<String> matchedEntriesId) {
+        for (BibEntry entry : entries) {
+            updateMatches(entry, matchedEntriesId.contains(entry.getId()));
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -3,12 +3,24 @@ package org.jabref.model.search;
 import java.util.List;
 
 public enum PostgreConstants {
+    /**
+     * The major version of the embedded Postgres server. Data directories are not compatible across major versions.
+     */
+    VERSION("17"),
     BIB_FIELDS_SCHEME("bib_fields"),
     SPLIT_TABLE_SUFFIX("_split_values"),
     ENTRY_ID("entryid"),
     FIELD_NAME("field_name"),
     FIELD_VALUE_LITERAL("field_value_literal"), // contains the value as-is
-    FIELD_VALUE_TRANSFORMED("field_value_transformed"); // contains the value transformed for better querying
+    FIELD_VALUE_TRANSFORMED("field_value_transformed"), // contains the value transformed for better querying
+    // region persistent indexes
+    FINGERPRINT_TABLE_SUFFIX("_fingerprints"),
+    ENTRY_FINGERPRINT("entry_fingerprint"), // hash of the entry content the indexed values are derived from
+    LIBRARY_METADATA("library_metadata"),
+    TABLE_NAME("table_name"),
+    LIBRARY_PATH("library_path"),
+    LIBRARY_FINGERPRINT("library_fingerprint"); // hash of the library-wide settings the indexed values are derived from
+    // endregion
 
     public static final List<String> POSTGRES_FUNCTIONS = List.of(
             // HTML highlighting function
@@ -71,6 +83,22 @@ public enum PostgreConstants {
         return BIB_FIELDS_SCHEME + ".\"" + mainTable + SPLIT_TABLE_SUFFIX + "\"";
     }
 
+    /**
+     * Generates the schema reference for the table storing the fingerprints of the indexed entries.
+     * Only used for indexes kept across sessions.
+     */
+    public static String getFingerprintTableSchemaReference(String mainTable) {
+        return BIB_FIELDS_SCHEME + ".\"" + mainTable + FINGERPRINT_TABLE_SUFFIX + "\"";
+    }
+
+    /**
+     * Generates the schema reference for the table storing which library is indexed in which table.
+     * Only used for indexes kept across sessions.
+     */
+    public static String getLibraryMetadataSchemaReference() {
+        return BIB_FIELDS_SCHEME + ".\"" + LIBRARY_METADATA + "\"";
+    }
+
     @Override
     public String toString() {
         return value;
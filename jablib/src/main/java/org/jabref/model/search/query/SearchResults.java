@@ -26,6 +26,13 @@ public class SearchResults {
         entries.forEach(entry -> addSearchResult(entry, result));
     }
 
+    /**
+     * Drops all results of entries not contained in the given set of entry ids
+     */
+    public void retainEntries(Set<String> entryIds) {
+        searchResults.keySet().retainAll(entryIds);
+    }
+
     public boolean isMatched(BibEntry entry) {
         return searchResults.containsKey(entry.getId());
     }
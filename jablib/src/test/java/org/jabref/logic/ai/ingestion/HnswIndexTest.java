@@ -0,0 +1,89 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HnswIndexTest {
+    private static final int DIMENSION = 16;
+
+    private final Random random = new Random(42);
+    private final Map<String, float[]> vectors = new HashMap<>();
+
+    private MVStore mvStore;
+    private HnswIndex index;
+
+    @BeforeEach
+    void setUp() {
+        mvStore = new MVStore.Builder().open();
+        index = new HnswIndex(mvStore, "test", vectors::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mvStore.close();
+    }
+
+    @Test
+    void findsStoredVectors() {
+        addRandomVectors(1000);
+
+        int found = 0;
+        for (int i = 0; i < 100; i++) {
+            List<HnswIndex.Match> result = index.search(vectors.get("v" + i), 1, 50, id -> true);
+            if (result.getFirst().id().equals("v" + i)) {
+                found++;
+            }
+        }
+        assertTrue(found >= 95, "found " + found);
+    }
+
+    @Test
+    void searchOnlyReturnsAcceptedNodes() {
+        addRandomVectors(200);
+
+        List<HnswIndex.Match> result = index.search(vectors.get("v0"), 5, 50, id -> id.endsWith("7"));
+
+        assertEquals(5, result.size());
+        assertTrue(result.stream().allMatch(match -> match.id().endsWith("7")));
+    }
+
+    @Test
+    void removedNodesAreNotFound() {
+        addRandomVectors(200);
+        for (int i = 0; i < 100; i++) {
+            index.remove("v" + i);
+            vectors.remove("v" + i);
+        }
+
+        assertEquals(100, index.size());
+        List<HnswIndex.Match> result = index.search(randomVector(), 10, 50, id -> true);
+        assertEquals(10, result.size());
+        assertTrue(result.stream().allMatch(match -> vectors.containsKey(match.id())));
+    }
+
+    private void addRandomVectors(int count) {
+        for (int i = 0; i < count; i++) {
+            float[] vector = randomVector();
+            vectors.put("v" + i, vector);
+            index.add("v" + i, vector);
+        }
+    }
+
+    private float[] randomVector() {
+        float[] vector = new float[DIMENSION];
+        for (int i = 0; i < DIMENSION; i++) {
+            vector[i] = (float) random.nextGaussian();
+        }
+        return vector;
+    }
+}
@@ -0,0 +1,81 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class MVStoreEmbeddingStoreTest {
+    private final float[] vector = {0.5f, -1.0f, 0.25f, 0.0f};
+
+    @TempDir
+    private Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(MVStoreEmbeddingStore.VectorEncoding.class)
+    void storedEmbeddingsAreFoundAfterReopening(MVStoreEmbeddingStore.VectorEncoding encoding) {
+        Path path = tempDir.resolve("embeddings.mv");
+        MVStoreEmbeddingStore embeddingStore = new MVStoreEmbeddingStore(path, mock(NotificationService.class), encoding);
+        embeddingStore.add(Embedding.from(vector), new TextSegment("content", new Metadata(Map.of(LINK_METADATA_KEY, "paper.pdf"))));
+        embeddingStore.add(Embedding.from(new float[] {-0.5f, 1.0f, -0.25f, 0.0f}), new TextSegment("other content", new Metadata(Map.of(LINK_METADATA_KEY, "other.pdf"))));
+        embeddingStore.commit();
+        embeddingStore.close();
+
+        embeddingStore = new MVStoreEmbeddingStore(path, mock(NotificationService.class), encoding);
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                                                                                                .queryEmbedding(Embedding.from(vector))
+                                                                                                .maxResults(10)
+                                                                                                .filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("paper.pdf"))
+                                                                                                .build())
+                                                                  .matches();
+        embeddingStore.close();
+
+        assertEquals(1, matches.size());
+        assertEquals("content", matches.getFirst().embedded().text());
+        assertEquals("paper.pdf", matches.getFirst().embedded().metadata().getString(LINK_METADATA_KEY));
+        assertArrayEquals(vector, matches.getFirst().embedding().vector(), 0.01f);
+    }
+
+    @Test
+    void selectiveFilterFindsAllSegmentsOfLargeStore() {
+        MVStoreEmbeddingStore embeddingStore = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class));
+        Random random = new Random(42);
+        for (int i = 0; i <= MVStoreEmbeddingStore.EXHAUSTIVE_SEARCH_LIMIT; i++) {
+            float[] similarVector = {vector[0] + random.nextFloat() * 0.1f, vector[1], vector[2], random.nextFloat() * 0.1f};
+            embeddingStore.add(Embedding.from(similarVector), new TextSegment("content " + i, new Metadata(Map.of(LINK_METADATA_KEY, "large.pdf"))));
+        }
+        // The segments of the small file are the least similar ones, thus the approximate search may not reach them
+        for (int i = 0; i < 3; i++) {
+            float[] oppositeVector = {-vector[0], -vector[1], -vector[2], i * 0.1f};
+            embeddingStore.add(Embedding.from(oppositeVector), new TextSegment("small " + i, new Metadata(Map.of(LINK_METADATA_KEY, "small.pdf"))));
+        }
+
+        List<EmbeddingMatch<TextSegment>> matches = embeddingStore.search(EmbeddingSearchRequest.builder()
+                                                                                                .queryEmbedding(Embedding.from(vector))
+                                                                                                .maxResults(5)
+                                                                                                .filter(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("small.pdf"))
+                                                                                                .build())
+                                                                  .matches();
+        embeddingStore.close();
+
+        assertEquals(3, matches.size());
+    }
+}
@@ -0,0 +1,72 @@
+package org.jabref.logic.database;
+
+import java.util.List;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateCandidateIndexTest {
+
+    private final BibEntry article = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Single Author")
+            .withField(StandardField.TITLE, "A serious paper about something")
+            .withField(StandardField.YEAR, "2017");
+    private final BibEntry unrelatedArticle = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Completely Different")
+            .withField(StandardField.TITLE, "Holy Moly Uffdada und Trallalla")
+            .withField(StandardField.YEAR, "1992");
+
+    @Test
+    void entryWithSameTitleIsCandidate() {
+        BibEntry sameTitle = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "A Serious Paper About Something");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(article, unrelatedArticle));
+
+        assertEquals(List.of(article), index.getCandidates(sameTitle));
+    }
+
+    @Test
+    void entryWithSameFirstAuthorAndYearIsCandidate() {
+        BibEntry sameAuthorAndYear = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author, Single and Other, Some")
+                .withField(StandardField.TITLE, "Something completely different")
+                .withField(StandardField.YEAR, "2017");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(article, unrelatedArticle));
+
+        assertEquals(List.of(article), index.getCandidates(sameAuthorAndYear));
+    }
+
+    @Test
+    void entryOfOtherTypeWithSameDoiIsCandidate() {
+        BibEntry withDoi = new BibEntry(StandardEntryType.Article).withField(StandardField.DOI, "10.1000/xyz123");
+        BibEntry otherTypeWithDoi = new BibEntry(StandardEntryType.InProceedings).withField(StandardField.DOI, " 10.1000/XYZ123");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(withDoi, article));
+
+        assertEquals(List.of(withDoi), index.getCandidates(otherTypeWithDoi));
+    }
+
+    @Test
+    void entryOfOtherTypeWithSameTitleIsNoCandidate() {
+        BibEntry book = new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "Single Author")
+                .withField(StandardField.TITLE, "A serious paper about something")
+                .withField(StandardField.YEAR, "2017");
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(article));
+
+        assertEquals(List.of(), index.getCandidates(book));
+    }
+
+    @Test
+    void candidatesAfterDoNotContainPreviousEntries() {
+        BibEntry copy = (BibEntry) article.clone();
+        DuplicateCandidateIndex index = new DuplicateCandidateIndex(List.of(article, unrelatedArticle, copy));
+
+        assertEquals(List.of(copy), index.getCandidatesAfter(0));
+        assertEquals(List.of(), index.getCandidatesAfter(2));
+    }
+}
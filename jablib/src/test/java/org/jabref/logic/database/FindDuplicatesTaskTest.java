@@ -0,0 +1,63 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class FindDuplicatesTaskTest {
+
+    private final BlockingQueue<List<BibEntry>> duplicates = new LinkedBlockingQueue<>();
+
+    @Test
+    void findsEachPairOfDuplicatesOnce() {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Author" + i)
+                    .withField(StandardField.TITLE, "Title number " + i)
+                    .withField(StandardField.YEAR, "2000"));
+        }
+        BibEntry duplicate = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Author42")
+                .withField(StandardField.TITLE, "Title number 42")
+                .withField(StandardField.YEAR, "2000");
+        entries.add(duplicate);
+
+        int found = new FindDuplicatesTask(entries, BibDatabaseMode.BIBTEX, new BibEntryTypesManager(), duplicates).call();
+
+        assertEquals(1, found);
+        assertEquals(List.of(List.of(entries.get(42), duplicate)), new ArrayList<>(duplicates));
+    }
+
+    @Test
+    void publishesCountAndProgressAfterSearch() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Some title");
+        FindDuplicatesTask task = new FindDuplicatesTask(List.of(entry, (BibEntry) entry.clone()), BibDatabaseMode.BIBTEX, new BibEntryTypesManager(), duplicates);
+
+        int found = task.call();
+
+        assertEquals(found, task.duplicateCountProperty().get());
+        assertEquals(1.0, task.progressProperty().get().getWorkDonePercentage());
+    }
+
+    @Test
+    void cancelledTaskDoesNotSearch() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Some title");
+        FindDuplicatesTask task = new FindDuplicatesTask(List.of(entry, (BibEntry) entry.clone()), BibDatabaseMode.BIBTEX, new BibEntryTypesManager(), duplicates);
+        task.cancel();
+
+        assertEquals(0, task.call());
+        assertEquals(0, duplicates.size());
+    }
+}
@@ -9,6 +9,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -49,6 +50,7 @@ import org.jabref.model.groups.GroupHierarchyType;
 import org.jabref.model.groups.GroupTreeNode;
 import org.jabref.model.metadata.MetaData;
 import org.jabref.model.metadata.SaveOrder;
+import org.jabref.model.metadata.SelfContainedSaveOrder;
 import org.jabref.model.util.DummyFileUpdateMonitor;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -1091,4 +1093,100 @@ class BibtexDatabaseWriterTest {
         // returns tu original entry, not to the last saved one
         assertEquals(bibtexEntry, stringWriter.toString());
     }
+
+    private BibDatabaseContext parseThreeEntries() throws IOException {
+        ParserResult result = new BibtexParser(importFormatPreferences).parse(Reader.of("""
+                @Preamble{preamble}
+
+                @Article{first,
+                  author = {Ed von Test},
+                }
+
+                @Book{second,
+                  title = {A title},
+                }
+
+                @Misc{third,
+                  note = {A note},
+                }
+                """));
+        return new BibDatabaseContext(result.getDatabase(), result.getMetaData());
+    }
+
+    private void saveIncrementally(BibDatabaseContext context, IncrementalSaveState saveState, Path file) throws IOException {
+        try (AtomicFileWriter fileWriter = new AtomicFileWriter(file, StandardCharsets.UTF_8)) {
+            BibtexDatabaseWriter writer = new BibtexDatabaseWriter(
+                    new BibWriter(fileWriter, OS.NEWLINE),
+                    saveConfiguration,
+                    fieldPreferences,
+                    citationKeyPatternPreferences,
+                    entryTypesManager);
+            writer.saveDatabase(context, saveState, fileWriter);
+        }
+    }
+
+    /**
+     * Modifies the saved file without changing its size and modification time, thus the modification is kept only if the entry is copied by the next save
+     */
+    private void replaceInFileUnnoticed(Path file, String text, String replacement) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(file);
+        Files.writeString(file, Files.readString(file).replace(text, replacement));
+        Files.setLastModifiedTime(file, lastModifiedTime);
+    }
+
+    @Test
+    void incrementalSaveWritesSameContentAsFullSave(@TempDir Path bibFolder) throws IOException {
+        BibDatabaseContext context = parseThreeEntries();
+        IncrementalSaveState saveState = new IncrementalSaveState(context.getDatabase());
+        Path file = bibFolder.resolve("incremental.bib");
+        saveIncrementally(context, saveState, file);
+
+        BibEntry first = context.getDatabase().getEntries().getFirst();
+        BibEntry second = context.getDatabase().getEntries().get(1);
+        first.setField(StandardField.AUTHOR, "Ed");
+        context.getDatabase().removeEntry(second);
+        context.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article)
+                .withCitationKey("fourth")
+                .withField(StandardField.TITLE, "Another title")
+                .withChanged(true));
+        saveIncrementally(context, saveState, file);
+
+        databaseWriter.saveDatabase(context);
+        assertEquals(stringWriter.toString(), Files.readString(file));
+    }
+
+    @Test
+    void incrementalSaveCopiesUnchangedEntriesFromPreviouslySavedFile(@TempDir Path bibFolder) throws IOException {
+        BibDatabaseContext context = parseThreeEntries();
+        IncrementalSaveState saveState = new IncrementalSaveState(context.getDatabase());
+        Path file = bibFolder.resolve("incremental.bib");
+        saveIncrementally(context, saveState, file);
+
+        replaceInFileUnnoticed(file, "A note", "A NOTE");
+        context.getDatabase().getEntries().getFirst().setField(StandardField.AUTHOR, "Ed");
+        saveIncrementally(context, saveState, file);
+
+        databaseWriter.saveDatabase(context);
+        assertEquals(stringWriter.toString().replace("A note", "A NOTE"), Files.readString(file));
+    }
+
+    @Test
+    void incrementalSaveWritesAllEntriesIfSaveOrderChanged(@TempDir Path bibFolder) throws IOException {
+        BibDatabaseContext context = parseThreeEntries();
+        IncrementalSaveState saveState = new IncrementalSaveState(context.getDatabase());
+        Path file = bibFolder.resolve("incremental.bib");
+        saveIncrementally(context, saveState, file);
+
+        replaceInFileUnnoticed(file, "A note", "A NOTE");
+        saveConfiguration = new SelfContainedSaveConfiguration(
+                new SelfContainedSaveOrder(SaveOrder.OrderType.SPECIFIED, List.of(new SaveOrder.SortCriterion(StandardField.TITLE, true))),
+                false,
+                BibDatabaseWriter.SaveType.WITH_JABREF_META_DATA,
+                false);
+        saveIncrementally(context, saveState, file);
+
+        initializeDatabaseWriter();
+        databaseWriter.saveDatabase(context);
+        assertEquals(stringWriter.toString(), Files.readString(file));
+    }
 }
@@ -0,0 +1,77 @@
+package org.jabref.logic.exporter;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.layout.LayoutFormatterPreferences;
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.metadata.SaveOrder;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class TemplateExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    private TemplateExporter createCustomExporter(String layout) throws Exception {
+        Files.writeString(tempDir.resolve("numbered.layout"), layout);
+        Files.writeString(tempDir.resolve("numbered.article.layout"), "\\format[Number]{\\citationkey}. Article \\citationkey\n");
+        TemplateExporter exporter = new TemplateExporter("Numbered",
+                "numbered",
+                tempDir.resolve("numbered").toString(),
+                null,
+                StandardFileType.TXT,
+                mock(LayoutFormatterPreferences.class, Answers.RETURNS_DEEP_STUBS),
+                SaveOrder.getDefaultSaveOrder());
+        exporter.setCustomExport(true);
+        return exporter;
+    }
+
+    private static List<BibEntry> createEntries(int count) {
+        return IntStream.range(0, count)
+                        .mapToObj(i -> new BibEntry(i % 3 == 0 ? StandardEntryType.Article : StandardEntryType.Book)
+                                .withCitationKey("key" + i))
+                        .toList();
+    }
+
+    @Test
+    void entriesRenderedInParallelKeepOrderAndNumbers() throws Exception {
+        TemplateExporter exporter = createCustomExporter("\\format[Number]{\\citationkey}. \\citationkey\n");
+        List<BibEntry> entries = createEntries(5000);
+        Path file = tempDir.resolve("export.txt");
+
+        exporter.export(new BibDatabaseContext(), file, entries);
+
+        List<String> expected = IntStream.range(0, entries.size())
+                                         .mapToObj(i -> "%d. %skey%d".formatted(i + 1, i % 3 == 0 ? "Article " : "", i))
+                                         .toList();
+        assertEquals(expected, Files.readAllLines(file));
+    }
+
+    @Test
+    void groupBlockOutputOnlyOnceForEqualValues() throws Exception {
+        TemplateExporter exporter = createCustomExporter("\\begingroup{year}== \\year ==\n\\endgroup{year}\\citationkey\n");
+        List<BibEntry> entries = IntStream.range(0, 1000)
+                                          .mapToObj(i -> new BibEntry(StandardEntryType.Book).withCitationKey("key" + i).withField(StandardField.YEAR, "2020"))
+                                          .toList();
+        Path file = tempDir.resolve("export.txt");
+
+        exporter.export(new BibDatabaseContext(), file, entries);
+
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(List.of("== 2020 ==", "key0", "key1"), lines.subList(0, 3));
+        assertEquals(entries.size() + 1, lines.size());
+    }
+}
@@ -0,0 +1,68 @@
+package org.jabref.logic.importer.fileformat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BibtexChunkSplitterTest {
+
+    @Test
+    void splitsAfterEachEntry() {
+        String content = """
+                @article{first,
+                  title = {A {nested} title}
+                }
+
+                @book{second, title = {B}}
+                % comment
+                @misc{third}
+                """;
+        int secondStart = content.indexOf("\n@book") + 1;
+        int thirdStart = content.indexOf("% comment");
+
+        assertEquals(List.of(
+                new BibtexChunkSplitter.Chunk(0, secondStart - 1, 1),
+                new BibtexChunkSplitter.Chunk(secondStart - 1, thirdStart, 4),
+                new BibtexChunkSplitter.Chunk(thirdStart, content.length(), 6)
+        ), BibtexChunkSplitter.split(content, 1));
+    }
+
+    @Test
+    void doesNotSplitAfterStringsAndComments() {
+        String content = """
+                @string{a = {A}}
+                @comment{jabref-meta: databaseType:bibtex;}
+                @article{first}
+                """;
+
+        assertEquals(List.of(new BibtexChunkSplitter.Chunk(0, content.length(), 1)), BibtexChunkSplitter.split(content, 1));
+    }
+
+    @Test
+    void doesNotSplitChunksShorterThanMinimum() {
+        String content = """
+                @article{first}
+                @article{second}
+                @article{third}
+                """;
+        int thirdStart = content.indexOf("@article{third}");
+
+        assertEquals(List.of(
+                new BibtexChunkSplitter.Chunk(0, thirdStart, 1),
+                new BibtexChunkSplitter.Chunk(thirdStart, content.length(), 3)
+        ), BibtexChunkSplitter.split(content, 20));
+    }
+
+    @Test
+    void doesNotSplitEntriesDelimitedByParentheses() {
+        String content = """
+                @article{first}
+                @article(second)
+                @article{third}
+                """;
+
+        assertEquals(List.of(new BibtexChunkSplitter.Chunk(0, content.length(), 1)), BibtexChunkSplitter.split(content, 1));
+    }
+}
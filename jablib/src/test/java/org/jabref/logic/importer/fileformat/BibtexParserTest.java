@@ -108,6 +108,84 @@ class BibtexParserTest {
         assertEquals(List.of(expected), result);
     }
 
+    @Test
+    void parseWithConsumerPassesEntriesInsteadOfCollectingThem() throws IOException {
+        List<BibEntry> entries = new ArrayList<>();
+        ParserResult result = parser.parse(Reader.of("""
+                @string{ed = {Ed von Test}}
+
+                @article{first,author=ed}
+
+                @book{second,title={A title}}
+                """), entries::add);
+
+        assertEquals(List.of(
+                new BibEntry(StandardEntryType.Article).withCitationKey("first").withField(StandardField.AUTHOR, "#ed#"),
+                new BibEntry(StandardEntryType.Book).withCitationKey("second").withField(StandardField.TITLE, "A title")
+        ), entries);
+        assertEquals(List.of(), result.getDatabase().getEntries());
+        assertEquals(Optional.of("Ed von Test"), result.getDatabase().getStringByName("ed").map(BibtexString::getContent));
+    }
+
+    @Test
+    void parseInParallelReturnsSameResultAsParse() throws IOException {
+        StringBuilder content = new StringBuilder("""
+                % DBID: 2mvhh73ge3hc5fosdsvuoa808t
+
+                @Preamble{some text and \\latex}
+
+                @string{ed = {Ed von Test}}
+
+                """);
+        for (int i = 0; i < 3_000; i++) {
+            content.append("""
+                    %% Comment of entry %d
+                    @article{key%d,
+                      author = ed,
+                      title  = {Title {%d}}
+                    }
+
+                    """.formatted(i, i, i));
+        }
+        content.append("""
+                @Comment{jabref-meta: databaseType:biblatex;}
+
+                Some epilog
+                """);
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(Reader.of(content.toString()));
+        ParserResult result = parser.parseInParallel(Reader.of(content.toString()));
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(expected.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList(),
+                result.getDatabase().getEntries().stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(expected.getDatabase().getStringByName("ed").map(BibtexString::getContent), result.getDatabase().getStringByName("ed").map(BibtexString::getContent));
+        assertEquals(expected.getDatabase().getPreamble(), result.getDatabase().getPreamble());
+        assertEquals(expected.getDatabase().getEpilog(), result.getDatabase().getEpilog());
+        assertEquals(expected.getDatabase().getSharedDatabaseID(), result.getDatabase().getSharedDatabaseID());
+        assertEquals(expected.getMetaData().getMode(), result.getMetaData().getMode());
+        assertEquals(List.of(), result.warnings());
+        List<String> ids = result.getDatabase().getEntries().stream().map(BibEntry::getId).toList();
+        assertEquals(ids.stream().sorted().toList(), ids);
+    }
+
+    @Test
+    void parseInParallelReportsSameWarningsAsParse() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 3_000; i++) {
+            content.append("@article{key%d, title = {Title %d}}\n\n".formatted(i, i));
+            if (i == 100) {
+                content.append("@article{broken, title = {Title}\n\n");
+            }
+        }
+
+        ParserResult expected = new BibtexParser(importFormatPreferences).parse(Reader.of(content.toString()));
+        ParserResult result = parser.parseInParallel(Reader.of(content.toString()));
+
+        assertEquals(expected.getDatabase().getEntries(), result.getDatabase().getEntries());
+        assertEquals(expected.warnings(), result.warnings());
+    }
+
     @Test
     void fromStringReturnsEmptyListFromEmptyString() throws ParseException {
         Collection<BibEntry> parsed = parser.parseEntries("");
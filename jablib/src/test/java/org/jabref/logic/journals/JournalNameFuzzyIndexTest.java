@@ -0,0 +1,31 @@
+package org.jabref.logic.journals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JournalNameFuzzyIndexTest {
+
+    private final Abbreviation physicsA = new Abbreviation("Journal of Physics A", "J. Phys. A", "JPA");
+    private final Abbreviation physicsB = new Abbreviation("Journal of Physics B", "J. Phys. B", "JPB");
+    private final Abbreviation chemistry = new Abbreviation("Journal of Chemistry", "J. Chem.", "JC");
+    private final JournalNameFuzzyIndex index = new JournalNameFuzzyIndex(List.of(physicsA, physicsB, chemistry));
+
+    @Test
+    void findsSimilarNamesIgnoringCaseMostSimilarFirst() {
+        assertEquals(List.of(new JournalNameFuzzyIndex.Match(physicsA, 1), new JournalNameFuzzyIndex.Match(physicsB, 2)),
+                index.findSimilar("journal of physic A"));
+    }
+
+    @Test
+    void findsNoNamesWithTooManyDifferences() {
+        assertEquals(List.of(), index.findSimilar("Journal of Biology"));
+    }
+
+    @Test
+    void findsNoNamesWithTooDifferentLength() {
+        assertEquals(List.of(), index.findSimilar("Journal"));
+    }
+}
@@ -0,0 +1,60 @@
+package org.jabref.logic.journals;
+
+import java.nio.file.Path;
+
+import org.jabref.logic.journals.ltwa.LtwaRepository;
+
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MVStoreAbbreviationMapTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private JournalAbbreviationRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        Path journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(JournalAbbreviationRepository.FULL_TO_ABBREVIATION_MAP_NAME);
+            MVMap<String, String> abbreviationToFull = store.openMap(JournalAbbreviationRepository.ABBREVIATION_TO_FULL_MAP_NAME);
+            MVMap<String, String> dotlessToFull = store.openMap(JournalAbbreviationRepository.DOTLESS_TO_FULL_MAP_NAME);
+            MVMap<String, String> shortestUniqueToFull = store.openMap(JournalAbbreviationRepository.SHORTEST_UNIQUE_TO_FULL_MAP_NAME);
+            fullToAbbreviation.put("Physical Review Letters", new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL"));
+            abbreviationToFull.put("Phys. Rev. Lett.", "Physical Review Letters");
+            dotlessToFull.put("Phys Rev Lett", "Physical Review Letters");
+            shortestUniqueToFull.put("PRL", "Physical Review Letters");
+        }
+        repository = new JournalAbbreviationRepository(journalList, new LtwaRepository(), true);
+    }
+
+    @Test
+    void lookupByAnyFormReturnsAbbreviationWithFullName() {
+        Abbreviation expected = new Abbreviation("Physical Review Letters", "Phys. Rev. Lett.", "PRL");
+        assertEquals(expected, repository.get("Physical Review Letters").orElseThrow());
+        assertEquals(expected, repository.get("Phys. Rev. Lett.").orElseThrow());
+        assertEquals(expected, repository.get("Phys Rev Lett").orElseThrow());
+        assertEquals(expected, repository.get("PRL").orElseThrow());
+    }
+
+    @Test
+    void abbreviatedNamesAreRecognized() {
+        assertTrue(repository.isAbbreviatedName("Phys. Rev. Lett."));
+        assertFalse(repository.isAbbreviatedName("Physical Review Letters"));
+    }
+
+    @Test
+    void fullNamesAreListed() {
+        assertEquals(1, repository.getFullNames().size());
+        assertTrue(repository.getFullNames().contains("Physical Review Letters"));
+    }
+}
@@ -173,6 +173,29 @@ class LayoutTest {
         assertEquals("JoeDoe and MaryJ", layoutText);
     }
 
+    @Test
+    void numberOfEntryFromRenderContext() throws IOException {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withCitationKey("key");
+        Layout layout = new LayoutHelper(Reader.of("\\format[Number]{\\citationkey}. \\citationkey"), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+
+        assertEquals("1. key", layout.doLayout(entry, null));
+        assertEquals("42. key", layout.doLayout(entry, null, new LayoutRenderContext(42)));
+    }
+
+    @Test
+    void groupBlockOutputOnlyForChangedValueInSameRenderContext() throws IOException {
+        BibEntry first = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020");
+        BibEntry second = new BibEntry(StandardEntryType.Article).withField(StandardField.YEAR, "2020");
+        Layout layout = new LayoutHelper(Reader.of("\\begingroup{year}\\year: \\endgroup{year}entry "), layoutFormatterPreferences, abbreviationRepository)
+                .getLayoutFromText();
+        LayoutRenderContext context = new LayoutRenderContext();
+
+        assertEquals("2020: entry ", layout.doLayout(first, null, context));
+        assertEquals("entry ", layout.doLayout(second, null, context));
+        assertEquals("2020: entry ", layout.doLayout(second, null, new LayoutRenderContext()));
+    }
+
     @Test
     void annotatedField() throws IOException {
         UnknownField annotatedField = new UnknownField("author+an");
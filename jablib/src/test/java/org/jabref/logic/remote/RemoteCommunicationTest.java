@@ -1,6 +1,10 @@
 package org.jabref.logic.remote;
 
 import java.io.IOException;
+import java.net.Socket;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import org.jabref.logic.remote.client.RemoteClient;
 import org.jabref.logic.remote.server.RemoteListenerServerManager;
@@ -11,6 +15,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -22,19 +27,19 @@ import static org.mockito.Mockito.verify;
 @DisabledOnCIServer("Tests fails sporadically on CI server")
 class RemoteCommunicationTest {
 
+    private static final int PORT = 34567;
+
     private RemoteClient client;
     private RemoteListenerServerManager serverLifeCycle;
     private RemoteMessageHandler server;
 
     @BeforeEach
     void setUp() {
-        final int port = 34567;
-
         server = mock(RemoteMessageHandler.class);
         serverLifeCycle = new RemoteListenerServerManager();
-        serverLifeCycle.openAndStart(server, port);
+        serverLifeCycle.openAndStart(server, PORT);
 
-        client = new RemoteClient(port);
+        client = new RemoteClient(PORT);
     }
 
     @AfterEach
@@ -83,4 +88,30 @@ class RemoteCommunicationTest {
 
         verify(server).handleCommandLineArguments(message);
     }
+
+    @Test
+    void commandLineArgumentOfLegacyClientPassedToServer() throws IOException {
+        final String[] message = new String[]{"D:\\T EST\\测试te st.bib"};
+
+        try (Protocol protocol = new Protocol(new Socket(RemotePreferences.getIpAddress(), PORT))) {
+            protocol.sendMessage(RemoteMessage.SEND_COMMAND_LINE_ARGUMENTS, message);
+
+            assertEquals(RemoteMessage.OK, protocol.receiveMessage().getKey());
+        }
+        verify(server).handleCommandLineArguments(message);
+    }
+
+    @Test
+    void commandLineArgumentsOfConcurrentClientsPassedToServer() {
+        List<String[]> messages = IntStream.range(0, 20)
+                                           .mapToObj(i -> new String[]{"file" + i + ".bib"})
+                                           .toList();
+
+        List<Boolean> results = messages.parallelStream()
+                                        .map(message -> new RemoteClient(PORT).sendCommandLineArguments(message))
+                                        .toList();
+
+        assertEquals(Collections.nCopies(messages.size(), true), results);
+        messages.forEach(message -> verify(server).handleCommandLineArguments(message));
+    }
 }
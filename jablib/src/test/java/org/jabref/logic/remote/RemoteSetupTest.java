@@ -5,6 +5,8 @@ import java.io.OutputStream;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.jabref.logic.os.OS;
 import org.jabref.logic.remote.client.RemoteClient;
@@ -15,6 +17,8 @@ import org.jabref.support.DisabledOnCIServer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeFalse;
@@ -120,6 +124,32 @@ class RemoteSetupTest {
         }
     }
 
+    @Test
+    void sendCommandLineArgumentsToServerOfPreviousVersion() throws IOException, InterruptedException {
+        final int port = 34567;
+        final String[] message = new String[]{"D:\\T EST\\测试te st.bib"};
+        List<Object> receivedArguments = new CopyOnWriteArrayList<>();
+
+        try (ServerSocket socket = new ServerSocket(port)) {
+            // Setup dummy server handling connections like JabRef versions before the FramedProtocol
+            new Thread(() -> {
+                while (!socket.isClosed()) {
+                    try (Socket client = socket.accept(); Protocol protocol = new Protocol(client)) {
+                        receivedArguments.add(protocol.receiveMessage().getValue());
+                        protocol.sendMessage(RemoteMessage.OK);
+                    } catch (IOException e) {
+                        // Ignored, e.g., messages of the FramedProtocol
+                    }
+                }
+            }).start();
+            Thread.sleep(100);
+
+            assertTrue(new RemoteClient(port).sendCommandLineArguments(message));
+            assertEquals(1, receivedArguments.size());
+            assertArrayEquals(message, (String[]) receivedArguments.getFirst());
+        }
+    }
+
     @Test
     void pingReturnsFalseForNoServerListening() throws IOException, InterruptedException {
         final int port = 34567;
@@ -0,0 +1,168 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.retrieval.BibFieldsSearcher;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.PostgreConstants;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsIndexerTest {
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+
+    @TempDir
+    private Path tempDir;
+
+    private PostgreServer postgreServer;
+    private Path libraryPath;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer(tempDir.resolve("postgres"));
+        libraryPath = Files.createFile(tempDir.resolve("library.bib"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void keptIndexIsUpdatedWithChangesSinceLastSession() {
+        assertTrue(postgreServer.isPersistent());
+
+        BibFieldsIndexer firstSession = createIndexer(
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "tonho"));
+        firstSession.closeAndWait();
+
+        // Entries get new ids in each session
+        BibEntry unchanged = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer");
+        BibEntry changed = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "doe");
+        BibFieldsIndexer secondSession = createIndexer(unchanged, changed);
+        BibFieldsSearcher searcher = new BibFieldsSearcher(postgreServer.getConnection(), secondSession.getTable(), secondSession.getIndexIds());
+
+        assertEquals(Set.of(unchanged.getId()), searcher.search(new SearchQuery("author=harrer")).getMatchedEntries());
+        assertEquals(Set.of(changed.getId()), searcher.search(new SearchQuery("author=doe")).getMatchedEntries());
+        assertEquals(Set.of(), searcher.search(new SearchQuery("author=tonho")).getMatchedEntries());
+        secondSession.closeAndWait();
+    }
+
+    @Test
+    void entryAddedToKeptIndexIsFoundInNextSession() {
+        BibFieldsIndexer firstSession = createIndexer(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer"));
+        firstSession.addToIndex(List.of(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "doe")), mock(BackgroundTask.class));
+        firstSession.closeAndWait();
+
+        BibEntry reused = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "doe");
+        BibFieldsIndexer secondSession = createIndexer(reused);
+        BibFieldsSearcher searcher = new BibFieldsSearcher(postgreServer.getConnection(), secondSession.getTable(), secondSession.getIndexIds());
+
+        assertEquals(Set.of(reused.getId()), searcher.search(new SearchQuery("author=doe")).getMatchedEntries());
+        assertEquals(Set.of(), searcher.search(new SearchQuery("author=harrer")).getMatchedEntries());
+        assertEquals(Set.of(reused.getId()), searcher.search(new SearchQuery("author=doe"), List.of(reused)).getMatchedEntries());
+        secondSession.closeAndWait();
+    }
+
+    @Test
+    void keptIndexIsRebuiltAfterCancelledUpdate() throws SQLException {
+        createIndexer(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer")).closeAndWait();
+
+        // The changed entry is copied into the index, but the task is cancelled before its fingerprint is stored
+        BackgroundTask<?> cancelledTask = mock(BackgroundTask.class);
+        when(cancelledTask.isCancelled()).thenReturn(false, false, true);
+        createIndexer(cancelledTask,
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer"),
+                new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "doe")).closeAndWait();
+
+        BibEntry changed = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "doe");
+        BibFieldsIndexer thirdSession = createIndexer(new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer"), changed);
+        BibFieldsSearcher searcher = new BibFieldsSearcher(postgreServer.getConnection(), thirdSession.getTable(), thirdSession.getIndexIds());
+
+        assertEquals(Set.of(changed.getId()), searcher.search(new SearchQuery("author=doe")).getMatchedEntries());
+        try (ResultSet resultSet = postgreServer.getConnection().createStatement().executeQuery(
+                "SELECT COUNT(DISTINCT %s) FROM %s".formatted(PostgreConstants.ENTRY_ID, PostgreConstants.getMainTableSchemaReference(thirdSession.getTable())))) {
+            resultSet.next();
+            assertEquals(2, resultSet.getInt(1));
+        }
+        thirdSession.closeAndWait();
+    }
+
+    @Test
+    void indexingInSeveralChunksEqualsIndexingInOneChunk() throws SQLException {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        for (int i = 0; i < 7; i++) {
+            databaseContext.getDatabase().insertEntry(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Author %d and Coauthor {\\\"o}%d".formatted(i, i % 3))
+                    .withField(StandardField.KEYWORDS, "keyword%d, shared".formatted(i))
+                    .withField(StandardField.TITLE, "Title %d".formatted(i)));
+        }
+        BibFieldsIndexer severalChunks = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection(), 2, false);
+        severalChunks.updateOnStart(mock(BackgroundTask.class));
+        BibFieldsIndexer oneChunk = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection(), 100, false);
+        oneChunk.updateOnStart(mock(BackgroundTask.class));
+
+        assertEquals(getRows(PostgreConstants.getMainTableSchemaReference(oneChunk.getTable())),
+                getRows(PostgreConstants.getMainTableSchemaReference(severalChunks.getTable())));
+        assertEquals(getRows(PostgreConstants.getSplitTableSchemaReference(oneChunk.getTable())),
+                getRows(PostgreConstants.getSplitTableSchemaReference(severalChunks.getTable())));
+        BibFieldsSearcher oneChunkSearcher = new BibFieldsSearcher(postgreServer.getConnection(), oneChunk.getTable());
+        BibFieldsSearcher severalChunksSearcher = new BibFieldsSearcher(postgreServer.getConnection(), severalChunks.getTable());
+        for (String query : List.of("author=Coauthor", "author=\"Author 5\"", "keywords=shared", "keywords=keyword6", "title=Title")) {
+            assertEquals(oneChunkSearcher.search(new SearchQuery(query)).getMatchedEntries(),
+                    severalChunksSearcher.search(new SearchQuery(query)).getMatchedEntries());
+        }
+        assertEquals(7, severalChunksSearcher.search(new SearchQuery("keywords=shared")).getMatchedEntries().size());
+        oneChunk.closeAndWait();
+        severalChunks.closeAndWait();
+    }
+
+    private List<String> getRows(String schemaTableReference) throws SQLException {
+        List<String> rows = new ArrayList<>();
+        try (ResultSet resultSet = postgreServer.getConnection().createStatement().executeQuery(
+                "SELECT %s, %s, %s, %s FROM %s".formatted(PostgreConstants.ENTRY_ID, PostgreConstants.FIELD_NAME, PostgreConstants.FIELD_VALUE_LITERAL, PostgreConstants.FIELD_VALUE_TRANSFORMED, schemaTableReference))) {
+            while (resultSet.next()) {
+                rows.add(String.join("|", resultSet.getString(1), resultSet.getString(2), resultSet.getString(3), resultSet.getString(4)));
+            }
+        }
+        rows.sort(null);
+        return rows;
+    }
+
+    private BibFieldsIndexer createIndexer(BibEntry... entries) {
+        return createIndexer(mock(BackgroundTask.class), entries);
+    }
+
+    private BibFieldsIndexer createIndexer(BackgroundTask<?> task, BibEntry... entries) {
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.setDatabasePath(libraryPath);
+        databaseContext.getDatabase().insertEntries(List.of(entries));
+        BibFieldsIndexer indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection(), true);
+        indexer.updateOnStart(task);
+        return indexer;
+    }
+}
@@ -1,11 +1,22 @@
 package org.jabref.logic.search.indexing;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.stream.Stream;
 
+import org.jabref.model.strings.StringUtil;
+
+import org.apache.lucene.document.Document;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import static org.jabref.model.search.LinkedFilesConstants.CONTENT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class DocumentReaderTest {
@@ -25,4 +36,25 @@ public class DocumentReaderTest {
         String result = DocumentReader.mergeLines(linesToMerge);
         assertEquals(expected, result);
     }
+
+    @Test
+    void pagesReadAtOnceEqualPagesReadOneByOne() throws IOException {
+        Path pdf = Path.of("src/test/resources/pdfs/thesis-example.pdf");
+
+        List<Document> pages = new DocumentReader().readPdfContents("thesis-example.pdf", pdf);
+
+        try (PDDocument pdfDocument = Loader.loadPDF(pdf.toFile())) {
+            assertEquals(pdfDocument.getNumberOfPages(), pages.size());
+            for (int pageNumber = 1; pageNumber <= pages.size(); pageNumber++) {
+                PDFTextStripper pdfTextStripper = new PDFTextStripper();
+                pdfTextStripper.setLineSeparator("\n");
+                pdfTextStripper.setStartPage(pageNumber);
+                pdfTextStripper.setEndPage(pageNumber);
+                String pageText = pdfTextStripper.getText(pdfDocument);
+                String expected = StringUtil.isNotBlank(pageText) ? DocumentReader.mergeLines(pageText) : null;
+
+                assertEquals(expected, pages.get(pageNumber - 1).get(CONTENT.toString()), "Page " + pageNumber);
+            }
+        }
+    }
 }
@@ -29,6 +29,7 @@ public class LinkedFilesIndexerTest {
     private final CliPreferences preferences = mock(CliPreferences.class);
     private final FilePreferences filePreferences = mock(FilePreferences.class);
 
+    private BibDatabaseContext context;
     private LuceneIndexer indexer;
 
     @BeforeEach
@@ -36,7 +37,7 @@ public class LinkedFilesIndexerTest {
         when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
         when(preferences.getFilePreferences()).thenReturn(filePreferences);
 
-        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        context = mock(BibDatabaseContext.class);
         when(context.getDatabasePath()).thenReturn(Optional.of(Path.of("src/test/resources/pdfs/")));
         when(context.getFileDirectories(Mockito.any())).thenReturn(List.of(Path.of("src/test/resources/pdfs")));
         when(context.getFulltextIndexPath()).thenReturn(indexDir);
@@ -155,6 +156,54 @@ public class LinkedFilesIndexerTest {
         }
     }
 
+    @Test
+    void severalFilesIndexedAtOnce() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis);
+        exampleThesis.setFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article);
+        metadata.setFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+
+        // when
+        indexer.addToIndex(List.of(exampleThesis, metadata), mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(34, reader.numDocs());
+        }
+    }
+
+    @Test
+    void severalFilesIndexedOnStartAreNotIndexedAgain() throws IOException {
+        // given
+        BibEntry exampleThesis = new BibEntry(StandardEntryType.PhdThesis);
+        exampleThesis.setFiles(List.of(new LinkedFile("Example Thesis", "thesis-example.pdf", StandardFileType.PDF.getName())));
+        BibEntry metadata = new BibEntry(StandardEntryType.Article);
+        metadata.setFiles(List.of(new LinkedFile("Metadata file", "metaData.pdf", StandardFileType.PDF.getName())));
+        BibEntry example = new BibEntry(StandardEntryType.Article);
+        example.setFiles(List.of(new LinkedFile("Example", "example.pdf", StandardFileType.PDF.getName())));
+        BibEntry minimal = new BibEntry(StandardEntryType.Article);
+        minimal.setFiles(List.of(new LinkedFile("Minimal", "minimal.pdf", StandardFileType.PDF.getName())));
+        List<BibEntry> entries = List.of(exampleThesis, metadata, example, minimal);
+        when(context.getEntries()).thenReturn(entries);
+
+        // when
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        int numberOfPages;
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            numberOfPages = reader.numDocs();
+        }
+        indexer.addToIndex(entries, mock(BackgroundTask.class));
+
+        // then
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        try (IndexReader reader = indexer.getSearcherManager().acquire().getIndexReader()) {
+            assertEquals(numberOfPages, reader.numDocs());
+        }
+    }
+
     @Test
     public void flushIndex() throws IOException {
         // given
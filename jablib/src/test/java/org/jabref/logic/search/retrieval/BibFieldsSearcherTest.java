@@ -0,0 +1,71 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.query.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BibFieldsSearcherTest {
+    private final BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer");
+    private final BibEntry tonho = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "tonho");
+    private final BibEntry other = new BibEntry(StandardEntryType.Article).withField(StandardField.AUTHOR, "harrer");
+
+    private PostgreServer postgreServer;
+    private BibFieldsIndexer indexer;
+    private BibFieldsSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        postgreServer = new PostgreServer();
+
+        BibDatabaseContext databaseContext = new BibDatabaseContext();
+        databaseContext.getDatabase().insertEntries(List.of(harrer, tonho, other));
+        indexer = new BibFieldsIndexer(bibEntryPreferences, databaseContext, postgreServer.getConnection());
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        searcher = new BibFieldsSearcher(postgreServer.getConnection(), indexer.getTable());
+    }
+
+    @AfterEach
+    void tearDown() {
+        indexer.closeAndWait();
+        postgreServer.shutdown();
+    }
+
+    @Test
+    void searchRestrictedToEntriesReturnsOnlyMatchedEntriesOfTheGivenSet() {
+        Set<String> matches = searcher.search(new SearchQuery("author=harrer"), List.of(harrer, tonho)).getMatchedEntries();
+        assertEquals(Set.of(harrer.getId()), matches);
+    }
+
+    @Test
+    void searchRestrictedToNoEntriesReturnsNoMatches() {
+        assertEquals(Set.of(), searcher.search(new SearchQuery("author=harrer"), List.of()).getMatchedEntries());
+    }
+
+    @Test
+    void isMatched() {
+        SearchQuery query = new SearchQuery("author=tonho");
+        assertTrue(searcher.isMatched(tonho, query));
+        assertFalse(searcher.isMatched(harrer, query));
+    }
+}
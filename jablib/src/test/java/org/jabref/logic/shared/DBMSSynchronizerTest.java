@@ -212,6 +212,41 @@ class DBMSSynchronizerTest {
         assertEquals(List.of(modifiedBibEntry), dbmsProcessor.getSharedEntries());
     }
 
+    @Test
+    void synchronizeLocalDatabaseWithSeveralEntryUpdates() throws SQLException, OfflineLockException {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        BibEntry thirdEntry = createExampleBibEntry(3);
+        bibDatabase.insertEntries(List.of(firstEntry, secondEntry, thirdEntry));
+
+        BibEntry modifiedFirstEntry = createExampleBibEntry(1)
+                .withField(StandardField.YEAR, "2001");
+        BibEntry modifiedThirdEntry = createExampleBibEntry(3)
+                .withField(StandardField.YEAR, "2003");
+        dbmsProcessor.updateEntry(modifiedFirstEntry);
+        dbmsProcessor.updateEntry(modifiedThirdEntry);
+
+        dbmsSynchronizer.synchronizeLocalDatabase();
+
+        assertEquals(List.of(modifiedFirstEntry, createExampleBibEntry(2), modifiedThirdEntry), bibDatabase.getEntries());
+    }
+
+    @Test
+    void pullChangesSynchronizesOnlyAnnouncedEntries() {
+        BibEntry firstEntry = createExampleBibEntry(1);
+        BibEntry secondEntry = createExampleBibEntry(2);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+
+        dbmsSynchronizer.pullChanges(Map.of(firstEntry.getSharedBibEntryData().getSharedID(), 1));
+
+        assertEquals(List.of(firstEntry), bibDatabase.getEntries());
+
+        dbmsProcessor.removeEntries(List.of(firstEntry));
+        dbmsSynchronizer.pullChanges(Map.of(firstEntry.getSharedBibEntryData().getSharedID(), DBMSProcessor.REMOVED_ENTRY_VERSION));
+
+        assertEquals(List.of(), bibDatabase.getEntries());
+    }
+
     @Test
     void updateEntryDoesNotModifyLocalDatabase() throws SQLException, OfflineLockException {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,69 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jabref.logic.shared.DBMSProcessor;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiveUpdateNotificationTest {
+
+    @Test
+    void payloadOfCompleteSynchronizationIsProcessorID() {
+        assertEquals(List.of("processor"), LiveUpdateNotification.completeSynchronization("processor").toPayloads());
+    }
+
+    @Test
+    void parseProcessorIDOnlyRequiresCompleteSynchronization() {
+        LiveUpdateNotification notification = LiveUpdateNotification.parse("processor");
+
+        assertEquals("processor", notification.processorID());
+        assertTrue(notification.requiresCompleteSynchronization());
+    }
+
+    @Test
+    void parseInvalidPayloadRequiresCompleteSynchronization() {
+        assertEquals(LiveUpdateNotification.completeSynchronization("processor"), LiveUpdateNotification.parse("processor;1:x"));
+    }
+
+    @Test
+    void parseReturnsChangedEntries() {
+        LiveUpdateNotification notification = new LiveUpdateNotification("processor", Map.of(1, 3, 7, DBMSProcessor.REMOVED_ENTRY_VERSION));
+
+        assertEquals(List.of(notification), notification.toPayloads().stream().map(LiveUpdateNotification::parse).toList());
+    }
+
+    @Test
+    void manyEntriesAreSplitIntoSeveralPayloads() {
+        Map<Integer, Integer> sharedIDVersions = new HashMap<>();
+        for (int i = 1; i <= 2000; i++) {
+            sharedIDVersions.put(i, 100_000 + i);
+        }
+        List<String> payloads = new LiveUpdateNotification("processor", sharedIDVersions).toPayloads();
+
+        assertTrue(payloads.size() > 1);
+        assertTrue(payloads.stream().allMatch(payload -> payload.length() <= LiveUpdateNotification.MAXIMUM_PAYLOAD_LENGTH));
+        assertEquals(new LiveUpdateNotification("processor", sharedIDVersions),
+                payloads.stream().map(LiveUpdateNotification::parse).reduce(LiveUpdateNotification::merge).get());
+    }
+
+    @Test
+    void mergeKeepsHigherVersionAndRemoval() {
+        LiveUpdateNotification first = new LiveUpdateNotification("processor", Map.of(1, 3, 2, 5, 3, 1));
+        LiveUpdateNotification second = new LiveUpdateNotification("other", Map.of(1, 4, 2, DBMSProcessor.REMOVED_ENTRY_VERSION));
+
+        assertEquals(new LiveUpdateNotification("processor", Map.of(1, 4, 2, DBMSProcessor.REMOVED_ENTRY_VERSION, 3, 1)), first.merge(second));
+    }
+
+    @Test
+    void mergeWithCompleteSynchronizationRequiresCompleteSynchronization() {
+        LiveUpdateNotification changes = new LiveUpdateNotification("processor", Map.of(1, 3));
+
+        assertTrue(changes.merge(LiveUpdateNotification.completeSynchronization("other")).requiresCompleteSynchronization());
+    }
+}
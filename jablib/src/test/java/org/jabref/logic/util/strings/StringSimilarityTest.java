@@ -27,4 +27,19 @@ class StringSimilarityTest {
     void stringSimilarity(String a, String b, String expectedResult) {
         assertEquals(Boolean.valueOf(expectedResult), similarityChecker.isSimilar(a, b));
     }
+
+    @ParameterizedTest(name = "a={0}, b={1}, maxDistance={2}, result={3}")
+    @CsvSource({
+            "'', '', 4, 0",
+            "abcdef, abcdef, 4, 0",
+            "kitten, sitting, 4, 3",
+            "kitten, sitting, 3, 3",
+            "kitten, sitting, 2, 3", // distance exceeds maximum
+            "abcdef, a, 4, 5", // lengths differ too much
+            "abcd, dcba, 4, 4",
+            "Journal of Physics, Journal of Fysics, 4, 2"
+    })
+    void boundedEditDistance(String a, String b, int maxDistance, int expectedResult) {
+        assertEquals(expectedResult, StringSimilarity.boundedEditDistance(a, b, maxDistance));
+    }
 }
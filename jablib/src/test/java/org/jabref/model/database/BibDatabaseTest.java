@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
+import javafx.collections.ListChangeListener;
+
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
 import org.jabref.model.entry.field.StandardField;
@@ -344,6 +346,39 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void keyCountFollowsChangedCitationKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+
+        entry.clearCiteKey();
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void keyChangeOfRemovedEntryIsIgnored() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyReturnsEntriesInDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA").withField(StandardField.TITLE, "first");
+        BibEntry second = new BibEntry().withCitationKey("BBB").withField(StandardField.TITLE, "second");
+        BibEntry third = new BibEntry().withCitationKey("AAA").withField(StandardField.TITLE, "third");
+        database.insertEntries(first, second, third);
+        second.setCitationKey("AAA");
+
+        assertEquals(List.of(first, second, third), database.getEntriesByCitationKey("AAA"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("AAA"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -486,4 +521,61 @@ class BibDatabaseTest {
         assertEquals(1, database.indexOf(entryD));
         assertEquals(-1, database.indexOf(entryA));
     }
+
+    @Test
+    void removeEntriesNotifiesAboutRemovedRangesOnly() {
+        List<BibEntry> allEntries = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            allEntries.add(new BibEntry().withField(StandardField.TITLE, "Title " + i));
+        }
+        database.insertEntries(allEntries);
+        List<String> changes = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                changes.add("%s %d-%d".formatted(change.wasRemoved() ? "removed" : "other", change.getFrom(), change.getFrom() + change.getRemovedSize()));
+            }
+        });
+
+        database.removeEntries(List.of(allEntries.get(7), allEntries.get(2), allEntries.get(3)));
+
+        assertEquals(List.of("removed 2-4", "removed 5-6"), changes);
+        assertEquals(List.of(allEntries.get(0), allEntries.get(1), allEntries.get(4), allEntries.get(5), allEntries.get(6), allEntries.get(8), allEntries.get(9)), database.getEntries());
+    }
+
+    @Test
+    void runAsSingleChangeNotifiesOnce() {
+        BibEntry entryA = new BibEntry().withField(StandardField.TITLE, "A");
+        BibEntry entryB = new BibEntry().withField(StandardField.TITLE, "B");
+        BibEntry entryC = new BibEntry().withField(StandardField.TITLE, "C");
+        database.insertEntries(entryA, entryB);
+        List<ListChangeListener.Change<? extends BibEntry>> changes = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) changes::add);
+
+        database.runAsSingleChange(() -> {
+            database.removeEntry(entryA);
+            database.insertEntry(entryC);
+        });
+
+        assertEquals(1, changes.size());
+        assertEquals(List.of(entryB, entryC), database.getEntries());
+    }
+
+    @Test
+    void changingFieldNotifiesAboutUpdatedEntry() {
+        BibEntry entryA = new BibEntry().withField(StandardField.TITLE, "A");
+        BibEntry entryB = new BibEntry().withField(StandardField.TITLE, "B");
+        database.insertEntries(entryA, entryB);
+        List<Integer> updatedPositions = new ArrayList<>();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updatedPositions.add(change.getFrom());
+                }
+            }
+        });
+
+        entryB.setField(StandardField.TITLE, "Changed");
+
+        assertEquals(List.of(1), updatedPositions);
+    }
 }
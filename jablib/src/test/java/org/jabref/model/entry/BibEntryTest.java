@@ -22,6 +22,7 @@ import org.jabref.model.entry.field.SpecialField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.event.EventListenerTest;
 
 import com.google.common.collect.Sets;
 import org.junit.jupiter.api.Test;
@@ -48,6 +49,31 @@ class BibEntryTest {
         assertFalse(entry.getField(StandardField.AUTHOR).isPresent());
     }
 
+    @Test
+    void listenerRegisteredAfterChangesReceivesLaterChanges() {
+        entry.setField(StandardField.TITLE, "First title");
+        EventListenerTest listener = new EventListenerTest();
+        entry.registerListener(listener);
+
+        entry.setField(StandardField.TITLE, "Second title");
+
+        assertEquals(entry, listener.getChangedEntry());
+    }
+
+    @Test
+    void unregisterListenerWithoutRegisteredListenersDoesNotThrow() {
+        entry.unregisterListener(new EventListenerTest());
+    }
+
+    @Test
+    void latexFreeFieldIsUpdatedAfterChange() {
+        entry.setField(StandardField.TITLE, "{\\\"{O}}sterreich");
+        assertEquals(Optional.of("Österreich"), entry.getFieldLatexFree(StandardField.TITLE));
+
+        entry.setField(StandardField.TITLE, "Schweiz");
+        assertEquals(Optional.of("Schweiz"), entry.getFieldLatexFree(StandardField.TITLE));
+    }
+
     @Test
     void settingTypeToNullThrowsException() {
         assertThrows(NullPointerException.class, () -> entry.setType(null));
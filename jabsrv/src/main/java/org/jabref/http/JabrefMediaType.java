@@ -3,4 +3,6 @@ package org.jabref.http;
 public class JabrefMediaType {
     public static final String BIBTEX = "application/x-bibtex";
     public static final String JSON_CSL_ITEM = "application/x-bibtex-library-csl+json";
+    // One JSON object per line, see https://github.com/ndjson/ndjson-spec
+    public static final String NDJSON = "application/x-ndjson";
 }
@@ -0,0 +1,20 @@
+package org.jabref.http.dto;
+
+import java.util.List;
+
+import org.jabref.model.paging.Page;
+
+/**
+ * The data transfer object (DTO) for a {@link Page} of entries
+ *
+ * @param query      the query the entries match, empty if all entries of the library are paged
+ * @param pageNumber the number of the page, starting with 0
+ * @param totalCount the number of entries of all pages
+ * @param entries    the entries of the page
+ */
+public record PageDTO(String query, int pageNumber, int totalCount, List<BibEntryDTO> entries) {
+
+    public PageDTO(Page<BibEntryDTO> page, int totalCount) {
+        this(page.getQuery(), page.getPageNumber(), totalCount, List.copyOf(page.getContent()));
+    }
+}
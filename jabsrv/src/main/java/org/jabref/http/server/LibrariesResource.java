@@ -1,9 +1,6 @@
 package org.jabref.http.server;
 
-import java.util.List;
-
 import org.jabref.http.server.services.FilesToServe;
-import org.jabref.logic.util.io.BackupFileUtil;
 
 import com.google.gson.Gson;
 import jakarta.inject.Inject;
@@ -23,9 +20,6 @@ public class LibrariesResource {
     @GET
     @Produces(MediaType.APPLICATION_JSON)
     public String get() {
-        List<String> fileNamesWithUniqueSuffix = filesToServe.getFilesToServe().stream()
-                                                            .map(p -> p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p))
-                                                            .toList();
-        return gson.toJson(fileNamesWithUniqueSuffix);
+        return gson.toJson(filesToServe.getIds());
     }
 }
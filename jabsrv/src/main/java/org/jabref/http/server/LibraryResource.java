@@ -1,32 +1,53 @@
 package org.jabref.http.server;
 
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Date;
 import java.util.List;
-import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.jabref.http.JabrefMediaType;
 import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.http.dto.PageDTO;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryRegistry;
+import org.jabref.http.server.services.LibraryRegistry.LibraryVersion;
+import org.jabref.http.server.services.LibraryRegistry.ParsedLibrary;
+import org.jabref.http.server.services.SearchService;
 import org.jabref.logic.citationstyle.JabRefItemDataProvider;
 import org.jabref.logic.importer.ParserResult;
-import org.jabref.logic.importer.fileformat.BibtexImporter;
 import org.jabref.logic.preferences.CliPreferences;
-import org.jabref.logic.util.io.BackupFileUtil;
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
-import org.jabref.model.util.DummyFileUpdateMonitor;
+import org.jabref.model.paging.Page;
+import org.jabref.model.search.query.SearchQuery;
 
 import com.airhacks.afterburner.injection.Injector;
 import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
 import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.InternalServerErrorException;
 import jakarta.ws.rs.NotFoundException;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Context;
+import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,69 +55,195 @@ import org.slf4j.LoggerFactory;
 public class LibraryResource {
     public static final Logger LOGGER = LoggerFactory.getLogger(LibraryResource.class);
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAXIMUM_PAGE_SIZE = 1000;
+
     @Inject
     CliPreferences preferences;
 
     @Inject
     FilesToServe filesToServe;
 
+    @Inject
+    LibraryRegistry libraryRegistry;
+
+    @Inject
+    SearchService searchService;
+
     @Inject
     Gson gson;
 
+    /**
+     * Returns all entries of the library as JSON array. The array is written while the entries are converted,
+     * thus the response starts before all entries are converted.
+     */
     @GET
     @Produces(MediaType.APPLICATION_JSON)
-    public String getJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
+    public Response getJson(@PathParam("id") String id, @Context Request request) {
+        ParsedLibrary library = getParsedLibrary(id);
+        return conditionalResponse(request, library.version(), "json", () -> (StreamingOutput) output -> {
+            Function<BibEntry, BibEntryDTO> toDTO = getDTOConverter(library.parserResult());
+            try (JsonWriter jsonWriter = gson.newJsonWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8))) {
+                jsonWriter.beginArray();
+                for (BibEntry entry : library.parserResult().getDatabase().getEntries()) {
+                    gson.toJson(toDTO.apply(entry), BibEntryDTO.class, jsonWriter);
+                }
+                jsonWriter.endArray();
+            }
+        }).build();
+    }
+
+    /**
+     * Returns one page of the entries of the library
+     *
+     * @param query      the search expression the entries have to match, all entries if it is empty
+     * @param pageNumber the number of the page, starting with 0
+     * @param pageSize   the maximum number of entries of a page
+     */
+    @GET
+    @Path("entries")
+    @Produces(MediaType.APPLICATION_JSON)
+    public Response getEntriesPage(@PathParam("id") String id,
+                                   @QueryParam("q") @DefaultValue("") String query,
+                                   @QueryParam("page") @DefaultValue("0") int pageNumber,
+                                   @QueryParam("size") @DefaultValue("" + DEFAULT_PAGE_SIZE) int pageSize,
+                                   @Context Request request) {
+        if ((pageNumber < 0) || (pageSize < 1) || (pageSize > MAXIMUM_PAGE_SIZE)) {
+            throw new BadRequestException("The page number must not be negative and the page size must be between 1 and " + MAXIMUM_PAGE_SIZE);
+        }
+        Optional<SearchQuery> searchQuery = parseSearchQuery(query);
+        java.nio.file.Path path = getLibraryPath(id);
+        ParsedLibrary library = getParsedLibrary(path);
+        return conditionalResponse(request, library.version(), "json-page-%d-%d-%x".formatted(pageNumber, pageSize, query.hashCode()), () -> {
+            List<BibEntry> entries = getEntries(path, library, searchQuery);
+            int from = (int) Math.min((long) pageNumber * pageSize, entries.size());
+            int to = Math.min(from + pageSize, entries.size());
+            List<BibEntryDTO> content = entries.subList(from, to).stream()
+                                               .map(getDTOConverter(library.parserResult()))
+                                               .toList();
+            return gson.toJson(new PageDTO(new Page<>(query, pageNumber, content), entries.size()));
+        }).build();
+    }
+
+    /**
+     * Returns the entries of the library as newline-delimited JSON, one entry per line. Each entry is written as soon as it is converted.
+     *
+     * @param query the search expression the entries have to match, all entries if it is empty
+     */
+    @GET
+    @Path("entries")
+    @Produces(JabrefMediaType.NDJSON)
+    public Response getEntriesAsNdjson(@PathParam("id") String id,
+                                       @QueryParam("q") @DefaultValue("") String query,
+                                       @Context Request request) {
+        Optional<SearchQuery> searchQuery = parseSearchQuery(query);
+        java.nio.file.Path path = getLibraryPath(id);
+        ParsedLibrary library = getParsedLibrary(path);
+        return conditionalResponse(request, library.version(), "ndjson-%x".formatted(query.hashCode()), () -> {
+            // Searched before streaming, so that a failing search is still reported by the status of the response
+            List<BibEntry> entries = getEntries(path, library, searchQuery);
+            return (StreamingOutput) output -> {
+                Function<BibEntry, BibEntryDTO> toDTO = getDTOConverter(library.parserResult());
+                Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+                for (BibEntry entry : entries) {
+                    // A JsonWriter of its own writes the entry in a single line, regardless of the formatting of gson
+                    gson.toJson(toDTO.apply(entry), BibEntryDTO.class, new JsonWriter(writer));
+                    writer.write('\n');
+                }
+                writer.flush();
+            };
+        }).build();
+    }
+
+    /**
+     * @return the search query of the given search expression, or an empty optional if the expression is blank
+     */
+    private Optional<SearchQuery> parseSearchQuery(String query) {
+        if (query.isBlank()) {
+            return Optional.empty();
+        }
+        SearchQuery searchQuery = new SearchQuery(query, preferences.getSearchPreferences().getSearchFlags());
+        if (!searchQuery.isValid()) {
+            throw new BadRequestException("Invalid search expression " + query);
+        }
+        return Optional.of(searchQuery);
+    }
+
+    /**
+     * Returns the entries of the library matching the given search query, using the search index of the library.
+     * As searching is expensive, it is only done for responses which are not answered by "304 Not Modified".
+     */
+    private List<BibEntry> getEntries(java.nio.file.Path path, ParsedLibrary library, Optional<SearchQuery> searchQuery) {
+        return searchQuery.map(query -> searchService.search(path, library, query, preferences))
+                          .orElseGet(() -> library.parserResult().getDatabase().getEntries());
+    }
+
+    private Function<BibEntry, BibEntryDTO> getDTOConverter(ParserResult parserResult) {
         BibEntryTypesManager entryTypesManager = Injector.instantiateModelOrService(BibEntryTypesManager.class);
-        List<BibEntryDTO> list = parserResult.getDatabase().getEntries().stream()
-                                             .peek(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)))
-                                             .map(entry -> new BibEntryDTO(entry, parserResult.getDatabaseContext().getMode(), preferences.getFieldPreferences(), entryTypesManager))
-                                             .toList();
-        return gson.toJson(list);
+        BibDatabaseMode mode = parserResult.getDatabaseContext().getMode();
+        return entry -> new BibEntryDTO(entry, mode, preferences.getFieldPreferences(), entryTypesManager);
     }
 
     @GET
     @Produces(JabrefMediaType.JSON_CSL_ITEM)
-    public String getClsItemJson(@PathParam("id") String id) {
-        ParserResult parserResult = getParserResult(id);
-        JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
-        jabRefItemDataProvider.setData(parserResult.getDatabaseContext(), new BibEntryTypesManager());
-        return jabRefItemDataProvider.toJson();
+    public Response getClsItemJson(@PathParam("id") String id, @Context Request request) {
+        ParsedLibrary library = getParsedLibrary(id);
+        return conditionalResponse(request, library.version(), "csl-json", () -> {
+            JabRefItemDataProvider jabRefItemDataProvider = new JabRefItemDataProvider();
+            jabRefItemDataProvider.setData(library.parserResult().getDatabaseContext(), new BibEntryTypesManager());
+            return jabRefItemDataProvider.toJson();
+        }).build();
     }
 
-    private ParserResult getParserResult(String id) {
-        java.nio.file.Path library = getLibraryPath(id);
-        ParserResult parserResult;
+    private ParsedLibrary getParsedLibrary(String id) {
+        return getParsedLibrary(getLibraryPath(id));
+    }
+
+    private ParsedLibrary getParsedLibrary(java.nio.file.Path library) {
         try {
-            parserResult = new BibtexImporter(preferences.getImportFormatPreferences(), new DummyFileUpdateMonitor()).importDatabase(library);
+            return libraryRegistry.getLibrary(library, preferences.getImportFormatPreferences());
         } catch (IOException e) {
             LOGGER.warn("Could not find open library file {}", library, e);
             throw new InternalServerErrorException("Could not parse library", e);
         }
-        return parserResult;
     }
 
     @GET
     @Produces(JabrefMediaType.BIBTEX)
-    public Response getBibtex(@PathParam("id") String id) {
+    public Response getBibtex(@PathParam("id") String id, @Context Request request) {
         java.nio.file.Path library = getLibraryPath(id);
-        String libraryAsString;
+        LibraryVersion version;
         try {
-            libraryAsString = Files.readString(library);
+            version = LibraryVersion.of(library);
         } catch (IOException e) {
             LOGGER.error("Could not read library {}", library, e);
             throw new InternalServerErrorException("Could not read library " + library, e);
         }
-        return Response.ok()
-                .entity(libraryAsString)
+        // The file is streamed to the client instead of being read into memory before
+        return conditionalResponse(request, version, "bibtex", () -> (StreamingOutput) output -> Files.copy(library, output))
                 .build();
     }
 
+    /**
+     * Responds with "304 Not Modified" if the client already has the given version of the library in the given representation.
+     * Otherwise, responds with the entity created by the given supplier, which is only called in that case.
+     */
+    private Response.ResponseBuilder conditionalResponse(Request request, LibraryVersion version, String representation, Supplier<Object> entity) {
+        // Each representation of the library has its own tag
+        EntityTag entityTag = new EntityTag(version.getTag() + "-" + representation);
+        Date lastModified = new Date(version.lastModified().toMillis());
+        Response.ResponseBuilder notModified = request.evaluatePreconditions(lastModified, entityTag);
+        if (notModified != null) {
+            return notModified;
+        }
+        return Response.ok()
+                       .entity(entity.get())
+                       .tag(entityTag)
+                       .lastModified(lastModified);
+    }
+
     private java.nio.file.Path getLibraryPath(String id) {
-        return filesToServe.getFilesToServe()
-                          .stream()
-                          .filter(p -> (p.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(p)).equals(id))
-                          .findAny()
-                          .orElseThrow(NotFoundException::new);
+        return filesToServe.getFileById(id)
+                           .orElseThrow(NotFoundException::new);
     }
 }
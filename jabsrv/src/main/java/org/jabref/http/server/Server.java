@@ -14,8 +14,12 @@ import org.jabref.architecture.AllowedToUseStandardStreams;
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryRegistry;
+import org.jabref.http.server.services.SearchService;
 import org.jabref.logic.os.OS;
 import org.jabref.logic.preferences.JabRefCliPreferences;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.Directories;
 
 import net.harawata.appdirs.AppDirsFactory;
 import org.glassfish.grizzly.http.server.HttpServer;
@@ -105,6 +109,10 @@ public class Server {
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new GsonFactory());
         ServiceLocatorUtilities.addFactoryConstants(serviceLocator, new PreferencesFactory());
         ServiceLocatorUtilities.addOneConstant(serviceLocator, filesToServe);
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, new LibraryRegistry());
+        // The search indexes are kept across restarts of the server if the data directory is not used by JabRef at the same time
+        SearchService searchService = new SearchService(new PostgreServer(Directories.getBibFieldsIndexDirectory()));
+        ServiceLocatorUtilities.addOneConstant(serviceLocator, searchService);
 
         try {
             final HttpServer httpServer = startServer(serviceLocator);
@@ -114,6 +122,7 @@ public class Server {
                 try {
                     System.out.println("Shutting down jabsrv...");
                     httpServer.shutdownNow();
+                    searchService.shutdown();
                     System.out.println("Done, exit.");
                 } catch (Exception e) {
                     LOGGER.error("Could not shut down server", e);
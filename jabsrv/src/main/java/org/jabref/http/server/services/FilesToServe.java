@@ -1,7 +1,12 @@
 package org.jabref.http.server.services;
 
 import java.nio.file.Path;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.util.io.BackupFileUtil;
 
 import jakarta.inject.Singleton;
 
@@ -9,11 +14,34 @@ import jakarta.inject.Singleton;
 public class FilesToServe {
     private List<Path> filesToServe;
 
+    // The IDs of the libraries are computed once instead of for each request
+    private Map<String, Path> filesById = Map.of();
+
     public void setFilesToServe(List<Path> filesToServe) {
+        Map<String, Path> filesById = new LinkedHashMap<>();
+        for (Path file : filesToServe) {
+            filesById.put(getId(file), file);
+        }
         this.filesToServe = filesToServe;
+        this.filesById = filesById;
     }
 
     public List<Path> getFilesToServe() {
         return filesToServe;
     }
+
+    /**
+     * @return the IDs of the served libraries in the order of the files
+     */
+    public List<String> getIds() {
+        return List.copyOf(filesById.keySet());
+    }
+
+    public Optional<Path> getFileById(String id) {
+        return Optional.ofNullable(filesById.get(id));
+    }
+
+    private static String getId(Path file) {
+        return file.getFileName() + "-" + BackupFileUtil.getUniqueFilePrefix(file);
+    }
 }
@@ -0,0 +1,79 @@
+package org.jabref.http.server.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.logic.importer.ParserResult;
+import org.jabref.logic.importer.fileformat.BibtexImporter;
+import org.jabref.model.util.DummyFileUpdateMonitor;
+
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the served libraries parsed in memory, so that a library is not parsed again for each request.
+ * <p>
+ * A library is parsed again only if its file changed on disk. The change is detected by comparing the time of the last
+ * modification and the size of the file, which is a single file system access per request.
+ */
+@Singleton
+public class LibraryRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LibraryRegistry.class);
+
+    private final Map<Path, ParsedLibrary> libraries = new ConcurrentHashMap<>();
+
+    /**
+     * The state of a library file on disk
+     */
+    public record LibraryVersion(FileTime lastModified, long size) {
+
+        public static LibraryVersion of(Path library) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(library, BasicFileAttributes.class);
+            return new LibraryVersion(attributes.lastModifiedTime(), attributes.size());
+        }
+
+        /**
+         * Returns a value identifying this version, e.g., to be used as entity tag in HTTP responses
+         */
+        public String getTag() {
+            return Long.toHexString(lastModified.toMillis()) + "-" + Long.toHexString(size);
+        }
+    }
+
+    /**
+     * A library as parsed from the given version of its file. The parsed library is shared by all requests,
+     * thus it must not be modified.
+     */
+    public record ParsedLibrary(LibraryVersion version, ParserResult parserResult) {
+    }
+
+    /**
+     * Returns the given library as parsed from the current version of its file
+     */
+    public ParsedLibrary getLibrary(Path library, ImportFormatPreferences importFormatPreferences) throws IOException {
+        LibraryVersion version = LibraryVersion.of(library);
+        ParsedLibrary parsedLibrary = libraries.get(library);
+        if ((parsedLibrary != null) && parsedLibrary.version().equals(version)) {
+            return parsedLibrary;
+        }
+
+        LOGGER.debug("Parsing library {}", library);
+        ParserResult parserResult = new BibtexImporter(importFormatPreferences, new DummyFileUpdateMonitor()).importDatabase(library);
+        // Clients refer to the entries by their shared ID
+        parserResult.getDatabase().getEntries()
+                    .forEach(bibEntry -> bibEntry.getSharedBibEntryData().setSharedID(Objects.hash(bibEntry)));
+
+        // The version is determined before parsing. If the file changes while it is parsed, the next request parses it again.
+        parsedLibrary = new ParsedLibrary(version, parserResult);
+        libraries.put(library, parsedLibrary);
+        return parsedLibrary;
+    }
+}
@@ -0,0 +1,80 @@
+package org.jabref.http.server.services;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.http.server.services.LibraryRegistry.ParsedLibrary;
+import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.IndexManager;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.util.CurrentThreadTaskExecutor;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.search.query.SearchQuery;
+
+import jakarta.inject.Singleton;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Searches the served libraries using the search index of JabRef.
+ * <p>
+ * The index of a library is built on the first search and kept for the following searches.
+ * When the library was parsed again because its file changed, the index is updated on the next search.
+ * If the Postgres server keeps its data, only the entries changed in the file are indexed again.
+ */
+@Singleton
+public class SearchService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchService.class);
+
+    private final PostgreServer postgreServer;
+    private final Map<Path, LibraryIndex> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * The index of one library. Searches of the same library are executed one after another, because they use the same connection.
+     */
+    private static class LibraryIndex {
+        private ParsedLibrary library;
+        private IndexManager indexManager;
+    }
+
+    public SearchService(PostgreServer postgreServer) {
+        this.postgreServer = postgreServer;
+    }
+
+    /**
+     * @return the entries of the given library matching the given query, in the order of the library
+     */
+    public List<BibEntry> search(Path path, ParsedLibrary library, SearchQuery query, CliPreferences preferences) {
+        LibraryIndex index = indexes.computeIfAbsent(path, _ -> new LibraryIndex());
+        Set<String> matchedEntries;
+        synchronized (index) {
+            if (index.library != library) {
+                if (index.indexManager != null) {
+                    index.indexManager.closeAndWait();
+                }
+                LOGGER.debug("Indexing library {}", path);
+                // The index is built before the search, because the CurrentThreadTaskExecutor executes the indexing immediately
+                index.indexManager = new IndexManager(library.parserResult().getDatabaseContext(), new CurrentThreadTaskExecutor(), preferences, postgreServer);
+                index.library = library;
+            }
+            matchedEntries = index.indexManager.search(query).getMatchedEntries();
+        }
+        return library.parserResult().getDatabase().getEntries().stream()
+                      .filter(entry -> matchedEntries.contains(entry.getId()))
+                      .toList();
+    }
+
+    public void shutdown() {
+        for (LibraryIndex index : indexes.values()) {
+            synchronized (index) {
+                if (index.indexManager != null) {
+                    index.indexManager.closeAndWait();
+                }
+            }
+        }
+        postgreServer.shutdown();
+    }
+}
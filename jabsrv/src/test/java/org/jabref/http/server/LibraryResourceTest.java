@@ -1,12 +1,26 @@
 package org.jabref.http.server;
 
+import java.util.List;
+
 import org.jabref.http.JabrefMediaType;
+import org.jabref.http.dto.BibEntryDTO;
+import org.jabref.http.dto.PageDTO;
 
+import com.google.gson.Gson;
 import jakarta.ws.rs.core.Application;
+import jakarta.ws.rs.core.EntityTag;
+import jakarta.ws.rs.core.HttpHeaders;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 class LibraryResourceTest extends ServerTest {
 
@@ -14,6 +28,8 @@ class LibraryResourceTest extends ServerTest {
     protected Application configure() {
         ResourceConfig resourceConfig = new ResourceConfig(LibraryResource.class, LibrariesResource.class);
         addFilesToServeToResourceConfig(resourceConfig);
+        addLibraryRegistryToResourceConfig(resourceConfig);
+        addSearchServiceToResourceConfig(resourceConfig);
         addPreferencesToResourceConfig(resourceConfig);
         addGsonToResourceConfig(resourceConfig);
         return resourceConfig.getApplication();
@@ -37,4 +53,119 @@ class LibraryResourceTest extends ServerTest {
         assertEquals("""
                 [{"id":"Author2023test","type":"article","author":[{"family":"Author","given":"Demo"}],"event-date":{"date-parts":[[2023]]},"issued":{"date-parts":[[2023]]},"title":"Demo Title"}]""", target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get(String.class));
     }
+
+    @Test
+    void unchangedLibraryNotSentAgain() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get();
+        EntityTag entityTag = response.getEntityTag();
+        response.close();
+
+        Response conditionalResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id)
+                .request(JabrefMediaType.JSON_CSL_ITEM)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                .get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), conditionalResponse.getStatus());
+    }
+
+    @Test
+    void representationsHaveDifferentEntityTags() {
+        EntityTag bibtexTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.BIBTEX).get().getEntityTag();
+        EntityTag cslTag = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id).request(JabrefMediaType.JSON_CSL_ITEM).get().getEntityTag();
+        assertNotEquals(bibtexTag, cslTag);
+    }
+
+    @Test
+    void getEntriesPage() {
+        PageDTO page = new Gson().fromJson(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("page", 0)
+                .queryParam("size", 1)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class), PageDTO.class);
+
+        assertEquals(0, page.pageNumber());
+        assertEquals(1, page.totalCount());
+        assertEquals(List.of("Author2023test"), page.entries().stream().map(BibEntryDTO::citationKey).toList());
+    }
+
+    @Test
+    void getEntriesPageAfterLastEntry() {
+        PageDTO page = new Gson().fromJson(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("page", 1)
+                .queryParam("size", 1)
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class), PageDTO.class);
+
+        assertEquals(1, page.totalCount());
+        assertEquals(List.of(), page.entries());
+    }
+
+    @Test
+    void getEntriesPageWithInvalidSize() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("size", 0)
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
+
+    @Test
+    void getEntriesAsNdjson() {
+        String ndjson = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries").request(JabrefMediaType.NDJSON).get(String.class);
+
+        List<String> lines = ndjson.lines().toList();
+        assertEquals(1, lines.size());
+        assertEquals("Author2023test", new Gson().fromJson(lines.getFirst(), BibEntryDTO.class).citationKey());
+    }
+
+    @Test
+    void searchEntries() {
+        PageDTO page = new Gson().fromJson(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "title=demo")
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class), PageDTO.class);
+
+        assertEquals("title=demo", page.query());
+        assertEquals(List.of("Author2023test"), page.entries().stream().map(BibEntryDTO::citationKey).toList());
+    }
+
+    @Test
+    void searchEntriesWithoutMatch() {
+        PageDTO page = new Gson().fromJson(target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "title=chocolate")
+                .request(MediaType.APPLICATION_JSON)
+                .get(String.class), PageDTO.class);
+
+        assertEquals(0, page.totalCount());
+    }
+
+    @Test
+    void unchangedSearchResultNotSearchedAgain() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "title=demo")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+        EntityTag entityTag = response.getEntityTag();
+        response.close();
+        clearInvocations(searchService);
+
+        Response conditionalResponse = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "title=demo")
+                .request(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.IF_NONE_MATCH, entityTag.toString())
+                .get();
+
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), conditionalResponse.getStatus());
+        verify(searchService, never()).search(any(), any(), any(), any());
+    }
+
+    @Test
+    void searchEntriesWithInvalidQuery() {
+        Response response = target("/libraries/" + TestBibFile.GENERAL_SERVER_TEST.id + "/entries")
+                .queryParam("q", "term AND")
+                .request(MediaType.APPLICATION_JSON)
+                .get();
+
+        assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    }
 }
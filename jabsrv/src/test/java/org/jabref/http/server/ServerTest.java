@@ -3,23 +3,33 @@ package org.jabref.http.server;
 import java.util.EnumSet;
 import java.util.List;
 
+import javafx.beans.property.SimpleBooleanProperty;
+
 import org.jabref.http.dto.GlobalExceptionMapper;
 import org.jabref.http.dto.GsonFactory;
 import org.jabref.http.server.services.FilesToServe;
+import org.jabref.http.server.services.LibraryRegistry;
+import org.jabref.http.server.services.SearchService;
+import org.jabref.logic.FilePreferences;
 import org.jabref.logic.bibtex.FieldPreferences;
 import org.jabref.logic.importer.ImportFormatPreferences;
 import org.jabref.logic.preferences.CliPreferences;
+import org.jabref.logic.search.PostgreServer;
+import org.jabref.logic.search.SearchPreferences;
 import org.jabref.model.entry.BibEntryPreferences;
+import org.jabref.model.search.SearchFlags;
 
 import com.google.gson.Gson;
 import org.glassfish.hk2.utilities.binding.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.test.JerseyTest;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.slf4j.bridge.SLF4JBridgeHandler;
 
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
 
 /**
@@ -36,6 +46,14 @@ abstract class ServerTest extends JerseyTest {
 
     private static final FilesToServe FILES_TO_SERVE = new FilesToServe();
 
+    private static final LibraryRegistry LIBRARY_REGISTRY = new LibraryRegistry();
+
+    // Started by the first test using the search
+    private static PostgreServer postgreServer;
+
+    // Spied to check which requests search
+    protected SearchService searchService;
+
     @BeforeAll
     static void installLoggingBridge() {
         // Grizzly uses java.commons.logging, but we use TinyLog
@@ -45,6 +63,14 @@ abstract class ServerTest extends JerseyTest {
         initializePreferencesService();
     }
 
+    @AfterAll
+    static void shutdownPostgreServer() {
+        if (postgreServer != null) {
+            postgreServer.shutdown();
+            postgreServer = null;
+        }
+    }
+
     @BeforeEach
     public void setUp() throws Exception {
         super.setUp();
@@ -60,6 +86,28 @@ abstract class ServerTest extends JerseyTest {
         });
     }
 
+    protected void addLibraryRegistryToResourceConfig(ResourceConfig resourceConfig) {
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(LIBRARY_REGISTRY).to(LibraryRegistry.class);
+            }
+        });
+    }
+
+    protected void addSearchServiceToResourceConfig(ResourceConfig resourceConfig) {
+        if (postgreServer == null) {
+            postgreServer = new PostgreServer();
+        }
+        searchService = spy(new SearchService(postgreServer));
+        resourceConfig.register(new AbstractBinder() {
+            @Override
+            protected void configure() {
+                bind(searchService).to(SearchService.class);
+            }
+        });
+    }
+
     protected void addGsonToResourceConfig(ResourceConfig resourceConfig) {
         resourceConfig.register(new AbstractBinder() {
             @Override
@@ -91,6 +139,15 @@ abstract class ServerTest extends JerseyTest {
         BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
         when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
         when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(preferences.getBibEntryPreferences()).thenReturn(bibEntryPreferences);
+
+        FilePreferences filePreferences = mock(FilePreferences.class);
+        when(preferences.getFilePreferences()).thenReturn(filePreferences);
+        when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(false));
+
+        SearchPreferences searchPreferences = mock(SearchPreferences.class);
+        when(preferences.getSearchPreferences()).thenReturn(searchPreferences);
+        when(searchPreferences.getSearchFlags()).thenReturn(EnumSet.noneOf(SearchFlags.class));
 
         FieldPreferences fieldWriterPreferences = mock(FieldPreferences.class);
         when(preferences.getFieldPreferences()).thenReturn(fieldWriterPreferences);
@@ -0,0 +1,60 @@
+package org.jabref.http.server.services;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.List;
+
+import org.jabref.logic.bibtex.FieldPreferences;
+import org.jabref.logic.importer.ImportFormatPreferences;
+import org.jabref.model.entry.BibEntryPreferences;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LibraryRegistryTest {
+
+    private final LibraryRegistry libraryRegistry = new LibraryRegistry();
+    private ImportFormatPreferences importFormatPreferences;
+    private Path library;
+
+    @BeforeEach
+    void setUp(@TempDir Path tempDir) throws Exception {
+        importFormatPreferences = mock(ImportFormatPreferences.class);
+        BibEntryPreferences bibEntryPreferences = mock(BibEntryPreferences.class);
+        when(importFormatPreferences.bibEntryPreferences()).thenReturn(bibEntryPreferences);
+        when(bibEntryPreferences.getKeywordSeparator()).thenReturn(',');
+        when(importFormatPreferences.fieldPreferences()).thenReturn(new FieldPreferences(false, List.of(), List.of()));
+
+        library = tempDir.resolve("library.bib");
+        Files.writeString(library, "@Misc{first, title = {First}}\n");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.parse("2025-01-01T00:00:00Z")));
+    }
+
+    @Test
+    void unchangedLibraryNotParsedAgain() throws Exception {
+        LibraryRegistry.ParsedLibrary parsedLibrary = libraryRegistry.getLibrary(library, importFormatPreferences);
+
+        assertSame(parsedLibrary, libraryRegistry.getLibrary(library, importFormatPreferences));
+    }
+
+    @Test
+    void changedLibraryParsedAgain() throws Exception {
+        LibraryRegistry.ParsedLibrary parsedLibrary = libraryRegistry.getLibrary(library, importFormatPreferences);
+
+        Files.writeString(library, "@Misc{first, title = {First}}\n@Misc{second, title = {Second}}\n");
+        Files.setLastModifiedTime(library, FileTime.from(Instant.parse("2025-01-02T00:00:00Z")));
+        LibraryRegistry.ParsedLibrary changedLibrary = libraryRegistry.getLibrary(library, importFormatPreferences);
+
+        assertEquals(1, parsedLibrary.parserResult().getDatabase().getEntryCount());
+        assertEquals(2, changedLibrary.parserResult().getDatabase().getEntryCount());
+        assertEquals(LibraryRegistry.LibraryVersion.of(library), changedLibrary.version());
+    }
+}